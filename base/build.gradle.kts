@@ -9,3 +9,28 @@ description = "A simple-to-use Java localization library."
 dependencies {
     implementation(libs.icu4j)
 }
+
+// Concurrency stress suite at length, e.g., `./gradlew :Localize:stress -Plocalize.stress.rounds=5000`
+tasks.register<Test>("stress") {
+    description = "Runs the concurrency stress suite with many iterations and reports its throughput."
+    group = "verification"
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    outputs.upToDateWhen { false }
+
+    useJUnitPlatform {
+        includeTags("stress")
+    }
+
+    systemProperty("localize.stress.rounds", "2000")
+    systemProperty("localize.stress.readers", "200")
+
+    // Forward overrides, e.g., `-Plocalize.stress.readers=500`
+    providers.gradlePropertiesPrefixedBy("localize.stress.").get().forEach { (key, value) ->
+        systemProperty(key, value)
+    }
+
+    testLogging {
+        showStandardStreams = true
+    }
+}
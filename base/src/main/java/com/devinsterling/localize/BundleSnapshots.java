@@ -0,0 +1,82 @@
+package com.devinsterling.localize;
+
+import com.devinsterling.localize.catalog.OffHeapCatalog;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.ResourceBundle;
+
+/// Snapshots of loaded bundles on disk, stored as [OffHeapCatalog] files.
+///
+/// A snapshot is named after digests of its provider key and locale, followed by a digest of its fingerprint,
+/// so a snapshot only matches the exact provider, locale, and fingerprint it was written for.
+/// Writing a snapshot removes the snapshots of any other fingerprint of the same provider and locale.
+final class BundleSnapshots {
+    private static final String EXTENSION = ".lcat";
+    private static final int DIGEST_LENGTH = 16;
+
+    private BundleSnapshots() {}
+
+    /// @return The bundle of the snapshot, or `null` if none matches or it cannot be read.
+    static ResourceBundle read(Path directory, String providerKey, Locale locale, String fingerprint) {
+        Path path = getPath(directory, providerKey, locale, fingerprint);
+        if (!Files.isRegularFile(path)) return null;
+
+        try {
+            return OffHeapCatalog.map(path).getBundle(locale);
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /// Writes the values of the bundle, including those of its parents, ignoring any failure.
+    static void write(Path directory, String providerKey, Locale locale, String fingerprint, ResourceBundle bundle) {
+        Path path = getPath(directory, providerKey, locale, fingerprint);
+        String baseName = bundle.getBaseBundleName() == null ? providerKey : bundle.getBaseBundleName();
+
+        try {
+            Files.createDirectories(directory);
+            OffHeapCatalog.builder(baseName).put(locale, bundle).build().writeTo(path);
+        } catch (IOException | RuntimeException e) {
+            // Non-string values cannot be stored, while failing to write only costs the next start
+            return;
+        }
+
+        String glob = getPrefix(providerKey, locale) + "-*" + EXTENSION;
+        try (DirectoryStream<Path> stale = Files.newDirectoryStream(directory, glob)) {
+            for (Path file : stale) {
+                if (!file.equals(path)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (IOException ignored) {
+            // Stale snapshots never match, so are merely left behind
+        }
+    }
+
+    private static Path getPath(Path directory, String providerKey, Locale locale, String fingerprint) {
+        return directory.resolve(getPrefix(providerKey, locale) + "-" + digest(fingerprint) + EXTENSION);
+    }
+
+    private static String getPrefix(String providerKey, Locale locale) {
+        return digest(providerKey + '\0' + locale.toLanguageTag());
+    }
+
+    /// {@return The leading bytes of the SHA-256 digest of the value, as hexadecimal digits}
+    private static String digest(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, DIGEST_LENGTH);
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+}
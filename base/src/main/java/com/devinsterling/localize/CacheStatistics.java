@@ -0,0 +1,20 @@
+package com.devinsterling.localize;
+
+/// Snapshot of the statistics of a cache at the time of retrieval.
+///
+/// @param hitCount      Number of lookups that found a cached value.
+/// @param missCount     Number of lookups that did not find a cached value.
+/// @param evictionCount Number of values evicted to stay within the size limit.
+/// @param size          Number of values currently cached.
+/// @see Localize#getOutputCacheStatistics()
+/// @since 1.4
+public record CacheStatistics(long hitCount, long missCount, long evictionCount, int size) {
+    /// Statistics of a disabled or unused cache.
+    public static final CacheStatistics EMPTY = new CacheStatistics(0, 0, 0, 0);
+
+    /// {@return The ratio of hits to all lookups, or `0` if there were no lookups}
+    public double hitRate() {
+        long lookups = hitCount + missCount;
+        return lookups == 0 ? 0 : (double) hitCount / lookups;
+    }
+}
@@ -0,0 +1,81 @@
+package com.devinsterling.localize;
+
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/// A [ResourceBundle] with its entire parent chain resolved into a single table.
+///
+/// Lookups, including misses, require a single hash lookup instead of
+/// walking the parent chain (e.g., `zh_Hant_TW` → `zh_Hant` → `zh` → root).
+///
+/// @see LocalizeConfig#setFlattenResourceBundles(boolean)
+final class FlattenedResourceBundle extends ResourceBundle {
+    /// Bundles are typically cached by [ResourceBundle#getBundle], so flattening is reused per source.
+    /// Weakly referenced to avoid retaining sources that are no longer in use.
+    private static final Map<ResourceBundle, FlattenedResourceBundle> cache =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Map<String, Object> values;
+    private final Locale locale;
+    private final String baseBundleName;
+
+    private FlattenedResourceBundle(ResourceBundle source) {
+        Map<String, Object> values = new HashMap<>();
+
+        // Includes the keys of all parents, where values resolve from the most specific bundle
+        for (String key : source.keySet()) {
+            values.put(key, source.getObject(key));
+        }
+
+        this.values = values;
+        this.locale = source.getLocale();
+        this.baseBundleName = source.getBaseBundleName();
+    }
+
+    /// @param source Bundle to flatten.
+    /// @return       The flattened bundle of `source`.
+    static ResourceBundle of(ResourceBundle source) {
+        if (source instanceof FlattenedResourceBundle) return source;
+
+        FlattenedResourceBundle bundle = cache.get(source);
+        if (bundle == null) {
+            bundle = new FlattenedResourceBundle(source);
+            cache.put(source, bundle);
+        }
+        return bundle;
+    }
+
+    @Override protected Object handleGetObject(String key) {
+        return values.get(key);
+    }
+
+    @Override public Enumeration<String> getKeys() {
+        return Collections.enumeration(values.keySet());
+    }
+
+    @Override protected Set<String> handleKeySet() {
+        return values.keySet();
+    }
+
+    @Override public Set<String> keySet() {
+        return Collections.unmodifiableSet(values.keySet());
+    }
+
+    @Override public boolean containsKey(String key) {
+        return values.containsKey(key);
+    }
+
+    @Override public Locale getLocale() {
+        return locale;
+    }
+
+    @Override public String getBaseBundleName() {
+        return baseBundleName;
+    }
+}
@@ -0,0 +1,107 @@
+package com.devinsterling.localize;
+
+import com.ibm.icu.text.MessageFormat;
+import com.ibm.icu.util.TimeZone;
+import com.ibm.icu.util.ULocale;
+
+import java.text.FieldPosition;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+
+/// The only class referencing [ICU4J](https://unicode-org.github.io/icu/userguide/icu4j/).
+///
+/// ICU classes and their locale data are expensive to load, so they are isolated here
+/// to only be loaded once the first pattern with arguments is formatted.
+/// Signatures must therefore not expose any ICU types.
+///
+/// Parsed [MessageFormat] instances are pooled per format locale and pattern, as each instance
+/// otherwise builds its number, date, and plural formatters again. Instances are not thread-safe,
+/// so each is borrowed exclusively by one thread while formatting and returned afterward.
+///
+/// The pool is split into independently locked stripes, each evicting its least recently used pattern,
+/// so patterns in rotation stay pooled while rarely used ones make room.
+/// Date and time formatters keep the default time zone of their creation, including those formatting
+/// untyped [java.util.Date] arguments, so instances are also pooled per default time zone.
+final class IcuFormatting {
+    /// Maximum number of pooled patterns of all stripes.
+    private static final int MAX_PATTERNS = 4096;
+    private static final int STRIPES = 16;
+    /// Maximum number of idle instances per pattern, roughly the number of threads formatting it at once.
+    private static final int MAX_IDLE_FORMATS = 4;
+    private static final Stripe[] POOL = new Stripe[STRIPES];
+
+    static {
+        for (int i = 0; i < STRIPES; i++) {
+            POOL[i] = new Stripe(MAX_PATTERNS / STRIPES);
+        }
+    }
+
+    private IcuFormatting() {}
+
+    /// Formats the given pattern with the default format locale,
+    /// equivalent to [MessageFormat#format(String, Map)].
+    ///
+    /// @param pattern   Pattern to format.
+    /// @param arguments Named or numbered arguments.
+    /// @return          Formatted pattern.
+    static String format(String pattern, Map<String, Object> arguments) {
+        StringBuffer out = new StringBuffer();
+        formatTo(pattern, arguments, out);
+        return out.toString();
+    }
+
+    /// Equivalent to [#format(String, Map)], though appends the result to the given buffer.
+    ///
+    /// @param pattern   Pattern to format.
+    /// @param arguments Named or numbered arguments.
+    /// @param out       Buffer to append to.
+    static void formatTo(String pattern, Map<String, Object> arguments, StringBuffer out) {
+        // Keyed by the current defaults, which MessageFormat#format(String, Map) respects on each call
+        Key key = new Key(ULocale.getDefault(ULocale.Category.FORMAT), TimeZone.getDefault().getID(), pattern);
+        Stripe stripe = getStripe(key);
+        ArrayBlockingQueue<MessageFormat> idle;
+
+        synchronized (stripe) {
+            idle = stripe.get(key);
+        }
+        MessageFormat format = idle == null ? null : idle.poll();
+
+        if (format == null) {
+            format = new MessageFormat(pattern, key.locale());
+        }
+
+        // Only returned once formatted successfully, as a failure may leave the instance in any state
+        format.format(arguments, out, new FieldPosition(0));
+
+        if (idle == null) {
+            synchronized (stripe) {
+                idle = stripe.computeIfAbsent(key, k -> new ArrayBlockingQueue<>(MAX_IDLE_FORMATS));
+            }
+        }
+        // Dropped if enough instances are idle already
+        idle.offer(format);
+    }
+
+    private static Stripe getStripe(Key key) {
+        int hash = key.hashCode();
+        // Spread higher bits, as `HashMap` does
+        return POOL[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+    }
+
+    private record Key(ULocale locale, String timeZoneId, String pattern) {}
+
+    /// Idle instances by pattern, evicting the least recently used pattern once full.
+    private static final class Stripe extends LinkedHashMap<Key, ArrayBlockingQueue<MessageFormat>> {
+        private final int capacity;
+
+        private Stripe(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override protected boolean removeEldestEntry(Map.Entry<Key, ArrayBlockingQueue<MessageFormat>> eldest) {
+            return size() > capacity;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.devinsterling.localize;
+
+import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/// Bloom filter of the keys of a bundle, including those of its parents,
+/// to skip bundles which cannot contain a requested key.
+///
+/// Filters use about 10 to 20 bits per key, so that roughly 1% or fewer of absent keys pass.
+/// Keys are hashed through [String#hashCode()], which strings cache, so a check allocates nothing.
+final class KeyFilter {
+    private static final int MIN_BITS = Long.SIZE;
+    private static final int BITS_PER_KEY = 10;
+    private static final int MAX_HASHES = 16;
+
+    private final long[] bits;
+    private final int mask;
+    private final int hashCount;
+    private final int keyCount;
+    private final LongAdder rejections = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+
+    private KeyFilter(Set<String> keys) {
+        long bitCount = Math.max(MIN_BITS, (long) keys.size() * BITS_PER_KEY);
+        int capacity = (int) Math.min(1L << 30, Long.highestOneBit(bitCount * 2 - 1));
+
+        this.bits = new long[capacity / Long.SIZE];
+        this.mask = capacity - 1;
+        this.keyCount = keys.size();
+        // The optimal number of hashes is ln(2) times the bits per key
+        this.hashCount = (int) Math.max(1, Math.min(MAX_HASHES, Math.round(Math.log(2) * capacity / Math.max(1, keyCount))));
+
+        for (String key : keys) {
+            long hash = mix(key.hashCode());
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32) | 1;
+
+            for (int i = 0; i < hashCount; i++) {
+                int bit = (h1 + i * h2) & mask;
+                bits[bit >>> 6] |= 1L << bit;
+            }
+        }
+    }
+
+    /// {@return A new filter of all keys of the given bundle}
+    static KeyFilter of(ResourceBundle bundle) {
+        return new KeyFilter(bundle.keySet());
+    }
+
+    /// @param key Key to check.
+    /// @return    `false` if the bundle certainly does not contain the key, otherwise `true`.
+    boolean mightContain(String key) {
+        long hash = mix(key.hashCode());
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+
+        for (int i = 0; i < hashCount; i++) {
+            int bit = (h1 + i * h2) & mask;
+            if ((bits[bit >>> 6] & (1L << bit)) == 0) {
+                rejections.increment();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /// Records a key which passed this filter, though was not contained by the bundle.
+    void recordFalsePositive() {
+        falsePositives.increment();
+    }
+
+    /// {@return Statistics of this filter at the time of retrieval}
+    KeyFilterStatistics getStatistics() {
+        double expectedRate = Math.pow(1 - Math.exp(-(double) hashCount * keyCount / (mask + 1.0)), hashCount);
+        return new KeyFilterStatistics(
+            keyCount, (long) bits.length * Long.BYTES, expectedRate, rejections.sum(), falsePositives.sum()
+        );
+    }
+
+    /// {@return The hash spread over 64 bits, as with the finalizer of SplitMix64}
+    private static long mix(int hash) {
+        long z = hash * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,22 @@
+package com.devinsterling.localize;
+
+/// Snapshot of the statistics of the key filter of a bundle at the time of retrieval.
+///
+/// @param keyCount                  Number of keys of the bundle, including those of its parents.
+/// @param byteSize                  Number of bytes of the filter.
+/// @param expectedFalsePositiveRate Expected ratio of absent keys passing the filter.
+/// @param rejectionCount            Number of lookups skipping the bundle, as the filter ruled out the key.
+/// @param falsePositiveCount        Number of lookups of absent keys passing the filter.
+/// @see Localize#getKeyFilterStatistics()
+/// @since 1.4
+public record KeyFilterStatistics(int keyCount,
+                                  long byteSize,
+                                  double expectedFalsePositiveRate,
+                                  long rejectionCount,
+                                  long falsePositiveCount) {
+    /// {@return The observed ratio of absent keys passing the filter, or `0` if no absent key was looked up}
+    public double falsePositiveRate() {
+        long absent = rejectionCount + falsePositiveCount;
+        return absent == 0 ? 0 : (double) falsePositiveCount / absent;
+    }
+}
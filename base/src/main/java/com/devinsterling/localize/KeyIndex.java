@@ -0,0 +1,90 @@
+package com.devinsterling.localize;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.ResourceBundle;
+import java.util.WeakHashMap;
+
+/// Sorted keys of a bundle, including those of its parents, to enumerate keys by prefix.
+///
+/// Indexes are created once per bundle and reused by all snapshots sharing the bundle,
+/// so a refresh only indexes the bundles it actually replaced.
+final class KeyIndex {
+    /// Weakly referenced to avoid retaining bundles that are no longer in use.
+    private static final Map<ResourceBundle, KeyIndex> cache = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final String[] keys;
+
+    private KeyIndex(ResourceBundle bundle) {
+        this.keys = bundle.keySet().toArray(new String[0]);
+        Arrays.sort(keys);
+    }
+
+    /// @param bundle Bundle to index.
+    /// @return       The index of `bundle`.
+    static KeyIndex of(ResourceBundle bundle) {
+        KeyIndex index = cache.get(bundle);
+        if (index == null) {
+            index = new KeyIndex(bundle);
+            cache.put(bundle, index);
+        }
+        return index;
+    }
+
+    /// Retrieves all distinct keys of the given bundles starting with the given prefix.
+    ///
+    /// Each bundle requires a binary search, after which matches are merged in order,
+    /// so the time is proportional to the number of matches rather than the number of keys.
+    ///
+    /// @param bundles Bundles to enumerate the keys of.
+    /// @param prefix  Prefix of keys, where an empty prefix matches all keys.
+    /// @return        Immutable list of matching keys, sorted.
+    static List<String> getKeys(Collection<ResourceBundle> bundles, String prefix) {
+        List<KeyIndex> indexes = new ArrayList<>(bundles.size());
+        int[] positions = new int[bundles.size()];
+        int count = 0;
+
+        for (ResourceBundle bundle : bundles) {
+            KeyIndex index = of(bundle);
+            positions[count++] = index.lowerBound(prefix);
+            indexes.add(index);
+        }
+
+        // Merges the ranges of all bundles, which are few, by selecting the smallest key each step
+        List<String> keys = new ArrayList<>();
+        while (true) {
+            String smallest = null;
+
+            for (int i = 0; i < count; i++) {
+                String key = indexes.get(i).getMatch(positions[i], prefix);
+                if (key != null && (smallest == null || key.compareTo(smallest) < 0)) {
+                    smallest = key;
+                }
+            }
+            if (smallest == null) break;
+
+            keys.add(smallest);
+            for (int i = 0; i < count; i++) {
+                if (smallest.equals(indexes.get(i).getMatch(positions[i], prefix))) {
+                    positions[i]++;
+                }
+            }
+        }
+        return Collections.unmodifiableList(keys);
+    }
+
+    /// @return Index of the first key not less than `prefix`.
+    private int lowerBound(String prefix) {
+        int position = Arrays.binarySearch(keys, prefix);
+        return position < 0 ? -position - 1 : position;
+    }
+
+    /// @return The key at the given position if it starts with `prefix`, otherwise `null`.
+    private String getMatch(int position, String prefix) {
+        return position < keys.length && keys[position].startsWith(prefix) ? keys[position] : null;
+    }
+}
@@ -0,0 +1,56 @@
+package com.devinsterling.localize;
+
+import java.util.Locale;
+
+/// A locale bound to the current thread of a [Localize] instance until closed.
+///
+/// Closing a scope restores the locale bound prior, if any.
+/// Scopes must be closed on the thread they were opened, preferably through
+/// a try-with-resources statement:
+/// ```
+/// try (LocaleScope scope = localize.bindLocale(request.getLocale())) {
+///     handle(request); // Any `localize.getValue` calls use the bound locale
+/// }
+/// ```
+///
+/// @see Localize#bindLocale(Locale)
+/// @since 1.4
+public final class LocaleScope implements AutoCloseable {
+    private final ThreadLocal<Locale> scopedLocale;
+    private final Locale locale;
+    private final Locale previous;
+    private final Thread thread;
+    private boolean isClosed;
+
+    LocaleScope(ThreadLocal<Locale> scopedLocale, Locale locale) {
+        this.scopedLocale = scopedLocale;
+        this.locale = locale;
+        this.previous = scopedLocale.get();
+        this.thread = Thread.currentThread();
+        scopedLocale.set(locale);
+    }
+
+    /// {@return The locale bound by this scope}
+    public Locale getLocale() {
+        return locale;
+    }
+
+    /// Unbinds the locale of this scope and restores the locale bound prior, if any.
+    ///
+    /// Subsequent calls have no effect.
+    ///
+    /// @throws IllegalStateException If not called on the thread this scope was opened on.
+    @Override public void close() {
+        if (thread != Thread.currentThread()) {
+            throw new IllegalStateException("Scope must be closed on the thread it was opened on");
+        }
+        if (isClosed) return;
+
+        isClosed = true;
+        if (previous == null) {
+            scopedLocale.remove();
+        } else {
+            scopedLocale.set(previous);
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package com.devinsterling.localize;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.ResourceBundle;
+import java.util.function.UnaryOperator;
+
+/// A [LocalizationRequestProcessor] composed of stages.
+///
+/// Each request is processed in the following order:
+/// 1. The [Resolver] resolves the pattern of the requested key from a bundle,
+///    skipping the bundle if not found.
+/// 2. Each [Stage], in the order added, receives the [ResolvedPattern] along with its origin
+///    and may proceed to the next stage, short-circuit (e.g., caching), or transform the result
+///    (e.g., post-processing).
+/// 3. The [Formatter] formats the pattern with the arguments of the request.
+///
+/// The default resolver and formatter are equivalent to [Localize#DEFAULT_PROCESSOR],
+/// so features may be stacked without reimplementing either:
+/// ```
+/// localize.setProcessor(LocalizationPipeline.builder()
+///     .stage((pattern, request, next) -> {
+///         long start = System.nanoTime();
+///         try {
+///             return next.proceed(pattern, request);
+///         } finally {
+///             metrics.record(pattern.key(), System.nanoTime() - start);
+///         }
+///     })
+///     .postProcess(String::strip)
+///     .build());
+/// ```
+///
+/// @see Localize#setProcessor(LocalizationRequestProcessor)
+/// @since 1.4
+public final class LocalizationPipeline implements LocalizationRequestProcessor {
+    /// Resolves the requested key from a bundle, including its parents.
+    public static final Resolver BUNDLE_RESOLVER = LocalizationPipeline::resolve;
+    /// Formats patterns with [ICU4J](https://unicode-org.github.io/icu/userguide/format_parse/messages/),
+    /// where patterns of requests without arguments are returned as is.
+    public static final Formatter MESSAGE_FORMATTER = new MessageFormatter();
+
+    private final Resolver resolver;
+    private final Formatter formatter;
+    private final Chain chain;
+    private final boolean hasStages;
+
+    private LocalizationPipeline(Builder builder) {
+        Chain chain = builder.formatter::format;
+
+        // Composed once from the last stage to the first, so processing allocates no chains
+        for (int i = builder.stages.size() - 1; i >= 0; i--) {
+            Stage stage = builder.stages.get(i);
+            Chain next = chain;
+            chain = (pattern, request) -> stage.apply(pattern, request, next);
+        }
+
+        this.resolver = builder.resolver;
+        this.formatter = builder.formatter;
+        this.chain = chain;
+        this.hasStages = !builder.stages.isEmpty();
+    }
+
+    /// {@return A new builder with the default resolver and formatter, without stages}
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override public String process(ResourceBundle bundle, LocalizationRequest request) {
+        ResolvedPattern pattern = resolver.resolve(bundle, request);
+        return pattern == null ? null : chain.proceed(pattern, request);
+    }
+
+    /// Appends the formatted value directly through [Formatter#formatTo] if there are no stages,
+    /// as stages produce strings.
+    @Override public boolean processTo(ResourceBundle bundle, LocalizationRequest request, Appendable out) throws IOException {
+        ResolvedPattern pattern = resolver.resolve(bundle, request);
+        if (pattern == null) return false;
+
+        if (hasStages) {
+            String value = chain.proceed(pattern, request);
+            if (value == null) return false;
+
+            out.append(value);
+        } else {
+            formatter.formatTo(pattern, request, out);
+        }
+        return true;
+    }
+
+    /// {@return `true` if patterns are resolved through [#BUNDLE_RESOLVER], only found under the requested key}
+    boolean isBundleResolved() {
+        return resolver == BUNDLE_RESOLVER;
+    }
+
+    private static ResolvedPattern resolve(ResourceBundle bundle, LocalizationRequest request) {
+        String key = request.getKey();
+        return bundle.containsKey(key) ? new ResolvedPattern(key, bundle.getString(key), bundle) : null;
+    }
+
+    /// Resolves the pattern of a request from a bundle.
+    @FunctionalInterface
+    public interface Resolver {
+        /// @param bundle  Bundle to perform a lookup on.
+        /// @param request Request to resolve the pattern of.
+        /// @return        The resolved pattern, or `null` if not found in the given bundle.
+        ResolvedPattern resolve(ResourceBundle bundle, LocalizationRequest request);
+    }
+
+    /// A stage between resolving and formatting a pattern.
+    @FunctionalInterface
+    public interface Stage {
+        /// @param pattern Pattern resolved for the request, along with its origin.
+        /// @param request Request to process.
+        /// @param next    Remaining stages, ending with formatting.
+        /// @return        Formatted localized string, or `null` to continue with the next bundle.
+        String apply(ResolvedPattern pattern, LocalizationRequest request, Chain next);
+    }
+
+    /// The remaining stages of a pipeline, ending with formatting.
+    @FunctionalInterface
+    public interface Chain {
+        /// @param pattern Pattern to process, which may differ from the resolved pattern.
+        /// @param request Request to process, which may differ from the original request.
+        /// @return        Formatted localized string, or `null` to continue with the next bundle.
+        String proceed(ResolvedPattern pattern, LocalizationRequest request);
+    }
+
+    /// Formats a resolved pattern with the arguments of a request.
+    @FunctionalInterface
+    public interface Formatter {
+        /// @param pattern Pattern to format.
+        /// @param request Request containing the arguments to format with.
+        /// @return        Formatted localized string.
+        String format(ResolvedPattern pattern, LocalizationRequest request);
+
+        /// Formats a resolved pattern and appends the result to the given destination.
+        /// Implementations writing segments directly to `out` must not leave any appended if formatting throws.
+        ///
+        /// @implSpec The default implementation appends the result of [#format(ResolvedPattern, LocalizationRequest)].
+        /// @param pattern Pattern to format.
+        /// @param request Request containing the arguments to format with.
+        /// @param out     Destination to append to.
+        /// @throws IOException If appending to `out` fails.
+        default void formatTo(ResolvedPattern pattern, LocalizationRequest request, Appendable out) throws IOException {
+            out.append(format(pattern, request));
+        }
+    }
+
+    /// Formats through [IcuFormatting], so ICU is only loaded once a request with arguments is formatted.
+    private static final class MessageFormatter implements Formatter {
+        @Override public String format(ResolvedPattern pattern, LocalizationRequest request) {
+            return request.hasArguments()
+                   ? IcuFormatting.format(pattern.pattern(), request.getArguments())
+                   : pattern.pattern();
+        }
+
+        @Override public void formatTo(ResolvedPattern pattern, LocalizationRequest request, Appendable out) throws IOException {
+            if (!request.hasArguments()) {
+                out.append(pattern.pattern());
+            } else if (out instanceof StringBuffer buffer) {
+                // ICU writes segments as it goes, so a failure midway must not leave a partial value behind
+                int length = buffer.length();
+                try {
+                    IcuFormatting.formatTo(pattern.pattern(), request.getArguments(), buffer);
+                } catch (RuntimeException e) {
+                    buffer.setLength(length);
+                    throw e;
+                }
+            } else {
+                StringBuffer buffer = new StringBuffer();
+                IcuFormatting.formatTo(pattern.pattern(), request.getArguments(), buffer);
+                out.append(buffer);
+            }
+        }
+    }
+
+    /// Builder to compose a [LocalizationPipeline].
+    ///
+    /// **Builder instances are not thread-safe.**
+    public static final class Builder {
+        private final List<Stage> stages = new ArrayList<>();
+        private Resolver resolver = BUNDLE_RESOLVER;
+        private Formatter formatter = MESSAGE_FORMATTER;
+
+        private Builder() {}
+
+        /// Sets how patterns are resolved from each bundle.
+        ///
+        /// The initial value is [#BUNDLE_RESOLVER].
+        ///
+        /// @param resolver Resolver of patterns.
+        /// @return         This builder instance.
+        /// @throws NullPointerException If `resolver` is `null`.
+        public Builder resolver(Resolver resolver) {
+            this.resolver = Objects.requireNonNull(resolver, "resolver must not be null");
+            return this;
+        }
+
+        /// Appends a stage, which runs after all stages added prior.
+        ///
+        /// @param stage Stage to append.
+        /// @return      This builder instance.
+        /// @throws NullPointerException If `stage` is `null`.
+        public Builder stage(Stage stage) {
+            stages.add(Objects.requireNonNull(stage, "stage must not be null"));
+            return this;
+        }
+
+        /// Appends a stage transforming the formatted results of all stages added after.
+        ///
+        /// @param postProcessor Transforms each non-null formatted result.
+        /// @return              This builder instance.
+        /// @throws NullPointerException If `postProcessor` is `null`.
+        public Builder postProcess(UnaryOperator<String> postProcessor) {
+            Objects.requireNonNull(postProcessor, "postProcessor must not be null");
+            return stage((pattern, request, next) -> {
+                String value = next.proceed(pattern, request);
+                return value == null ? null : postProcessor.apply(value);
+            });
+        }
+
+        /// Sets how patterns are formatted at the end of the pipeline.
+        ///
+        /// The initial value is [#MESSAGE_FORMATTER].
+        ///
+        /// @param formatter Formatter of patterns.
+        /// @return          This builder instance.
+        /// @throws NullPointerException If `formatter` is `null`.
+        public Builder formatter(Formatter formatter) {
+            this.formatter = Objects.requireNonNull(formatter, "formatter must not be null");
+            return this;
+        }
+
+        /// {@return A new pipeline of the stages added so far}
+        public LocalizationPipeline build() {
+            return new LocalizationPipeline(this);
+        }
+    }
+}
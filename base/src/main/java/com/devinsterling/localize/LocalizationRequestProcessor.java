@@ -1,5 +1,6 @@
 package com.devinsterling.localize;
 
+import java.io.IOException;
 import java.util.ResourceBundle;
 
 /// Processes a request to provide a formatted localized string.
@@ -14,4 +15,24 @@ public interface LocalizationRequestProcessor {
     /// @param request Request to get and format the value by.
     /// @return Formatted localized string or `null` if not found.
     String process(ResourceBundle bundle, LocalizationRequest request);
+
+    /// Processes the given [LocalizationRequest] with the specified [ResourceBundle]
+    /// and appends the formatted localized string to the given destination.
+    ///
+    /// @implSpec The default implementation appends the result of [#process(ResourceBundle, LocalizationRequest)].
+    ///           Implementations may override this to write segments directly to `out`,
+    ///           though must not append anything if the value is not found or processing throws.
+    /// @param bundle  Bundle to perform a lookup on.
+    /// @param request Request to get and format the value by.
+    /// @param out     Destination to append to.
+    /// @return        `true` if the value was found and appended.
+    /// @throws IOException If appending to `out` fails.
+    /// @since 1.4
+    default boolean processTo(ResourceBundle bundle, LocalizationRequest request, Appendable out) throws IOException {
+        String value = process(bundle, request);
+        if (value == null) return false;
+
+        out.append(value);
+        return true;
+    }
 }
@@ -1,5 +1,11 @@
 package com.devinsterling.localize;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -131,15 +137,69 @@ public class LocalizationValueBuilder<B extends LocalizationValueBuilder<B>> {
     ///
     /// @return The formatted localized value.
     public String value() {
-        return applier.evaluate(
-            LocalizationRequest.Builder
-                .of(key)
-                .defaultValue(defaultValue)
-                .arguments(Map.copyOf(values))
-                .build()
-        );
-    }
-    
+        return applier.evaluate(getRequest());
+    }
+
+    /// Appends the formatted string with all properties applied from this builder
+    /// to the given destination, such as a [StringBuilder] or [java.io.Writer].
+    ///
+    /// Avoids creating an intermediate string where possible, such as for values without arguments.
+    /// ```
+    /// localize.get("MyApp.greet").formatTo(writer);
+    /// ```
+    ///
+    /// @param out Destination to append to.
+    /// @param <A> Destination type.
+    /// @return    The given destination.
+    /// @throws NullPointerException If `out` is `null`.
+    /// @throws UncheckedIOException If appending to `out` fails.
+    /// @since 1.4
+    public <A extends Appendable> A formatTo(A out) {
+        Objects.requireNonNull(out, "out must not be null");
+
+        try {
+            applier.evaluateTo(getRequest(), out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out;
+    }
+
+    /// Retrieves the formatted string with all properties applied from this builder, encoded in UTF-8.
+    ///
+    /// Values without arguments are encoded once per locale and shared, so this costs no encoding
+    /// on repeated calls (e.g., static labels of HTTP responses).
+    ///
+    /// @return Read-only buffer of the encoded value.
+    /// @see #encodeTo(ByteBuffer)
+    /// @since 1.4
+    public ByteBuffer encodedValue() {
+        return ByteBuffer.wrap(applier.evaluateEncoded(getRequest())).asReadOnlyBuffer();
+    }
+
+    /// Writes the formatted string with all properties applied from this builder,
+    /// encoded in UTF-8, into the given buffer at its current position.
+    ///
+    /// @param out Buffer to write to.
+    /// @return    The given buffer.
+    /// @throws NullPointerException If `out` is `null`.
+    /// @throws BufferOverflowException If there is insufficient space remaining in `out`.
+    /// @throws ReadOnlyBufferException If `out` is read-only.
+    /// @see #encodedValue()
+    /// @since 1.4
+    public ByteBuffer encodeTo(ByteBuffer out) {
+        Objects.requireNonNull(out, "out must not be null");
+        return out.put(applier.evaluateEncoded(getRequest()));
+    }
+
+    private LocalizationRequest getRequest() {
+        return LocalizationRequest.Builder
+            .of(key)
+            .defaultValue(defaultValue)
+            .arguments(Map.copyOf(values))
+            .build();
+    }
+
     /// {@return The underlying applier}
     protected Applier getApplier() {
         return applier;
@@ -195,5 +255,29 @@ public class LocalizationValueBuilder<B extends LocalizationValueBuilder<B>> {
         /// @param request Requested properties to apply.
         /// @return The formatted value.
         String evaluate(LocalizationRequest request);
+
+        /// Apply the requested properties provided and append
+        /// the appropriately formatted string to the given destination.
+        ///
+        /// @implSpec The default implementation appends the result of [#evaluate(LocalizationRequest)].
+        /// @param request Requested properties to apply.
+        /// @param out     Destination to append to.
+        /// @throws IOException If appending to `out` fails.
+        /// @since 1.4
+        default void evaluateTo(LocalizationRequest request, Appendable out) throws IOException {
+            out.append(evaluate(request));
+        }
+
+        /// Apply the requested properties provided into
+        /// an appropriately formatted string encoded in UTF-8.
+        ///
+        /// @implSpec The default implementation encodes the result of [#evaluate(LocalizationRequest)].
+        ///           Implementations may return shared arrays, which callers must not modify.
+        /// @param request Requested properties to apply.
+        /// @return The formatted value encoded in UTF-8.
+        /// @since 1.4
+        default byte[] evaluateEncoded(LocalizationRequest request) {
+            return evaluate(request).getBytes(StandardCharsets.UTF_8);
+        }
     }
 }
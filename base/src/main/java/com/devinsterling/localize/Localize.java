@@ -1,18 +1,27 @@
 package com.devinsterling.localize;
 
-import com.ibm.icu.text.MessageFormat;
-
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.MissingResourceException;
 import java.util.Objects;
 import java.util.ResourceBundle;
+import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
 
 /// Base class to handle localization.
 ///
@@ -89,11 +98,23 @@ import java.util.concurrent.atomic.AtomicReference;
 public abstract class Localize {
     /// The default processor to handle converting a [LocalizationRequest]
     /// into a formatted localized string.
-    public static final LocalizationRequestProcessor DEFAULT_PROCESSOR = Localize::processRequest;
-    private final ProviderStore providerStore = new ProviderStore();
-    private final Object providerLock = new Object();
+    ///
+    /// Equivalent to a [LocalizationPipeline] without stages, which may be built upon.
+    public static final LocalizationRequestProcessor DEFAULT_PROCESSOR = LocalizationPipeline.builder().build();
+    /// All providers and their bundles, replaced as a whole on each change.
+    private final AtomicReference<ProviderSnapshot> snapshot = new AtomicReference<>(ProviderSnapshot.EMPTY);
+    /// Bundles of other locales for views, loaded on demand.
+    private final Map<Locale, LocaleSnapshot> localeSnapshots = new ConcurrentHashMap<>();
+    /// Locale bound to the current thread, if any.
+    private final ThreadLocal<Locale> scopedLocale = new ThreadLocal<>();
+    /// A counter to discard stale loads.
+    private final AtomicLong loadGeneration = new AtomicLong();
     private final LocalizeConfig config;
     private volatile LocalizationRequestProcessor processor = DEFAULT_PROCESSOR;
+    private volatile MissingKeyCollector missingKeyCollector;
+    /// Created on demand, and recreated whenever the configured size changes.
+    private final AtomicReference<OutputCache> outputCache = new AtomicReference<>();
+    private final LocalizationValueBuilder.Applier applier = new BuilderApplier(null);
 
     /// Creates a [Localize] instance with the desired configuration.
     ///
@@ -157,11 +178,20 @@ public abstract class Localize {
 
     /// Sets the request processor.
     ///
-    /// The processor is called each time a request is made to fetch a value.
+    /// The processor is called each time a request is made to fetch a value,
+    /// unless cached (See [LocalizeConfig#setOutputCacheSize(int)]).
+    /// Setting a processor clears all cached values.
+    ///
+    /// Processors may be composed of stages through [LocalizationPipeline].
     ///
     /// @param processor Processor to handle requests.
     public void setProcessor(LocalizationRequestProcessor processor) {
         this.processor = Objects.requireNonNull(processor, "Processor must not be null");
+
+        OutputCache cache = outputCache.get();
+        if (cache != null) {
+            cache.clear();
+        }
     }
 
     /// {@return The request processor}
@@ -169,6 +199,22 @@ public abstract class Localize {
         return processor;
     }
 
+    /// Sets the collector to record requested keys without a value, or `null` to stop collecting.
+    ///
+    /// Collecting is disabled by default.
+    ///
+    /// @param collector Collector to record missing keys with.
+    /// @since 1.4
+    public void setMissingKeyCollector(MissingKeyCollector collector) {
+        this.missingKeyCollector = collector;
+    }
+
+    /// {@return The collector of missing keys, or `null` if disabled}
+    /// @since 1.4
+    public MissingKeyCollector getMissingKeyCollector() {
+        return missingKeyCollector;
+    }
+
     /// {@return The localize configuration}
     public LocalizeConfig getConfig() {
         return config;
@@ -208,10 +254,45 @@ public abstract class Localize {
     ///                 returned when the previous entry is replaced with the new provider.
     /// @throws NullPointerException If `key` or `provider` is `null`.
     public boolean putBundleProvider(String key, ResourceBundleProvider provider) {
-        ProviderEntry entry = new ProviderEntry(key, provider);
-        boolean isNewEntry = providerStore.put(entry);
-        refresh(entry);
-        return isNewEntry;
+        return putBundleProvider(key, provider, Set.of());
+    }
+
+    /// Adds the given provider, only consulted for keys starting with any of the given prefixes.
+    ///
+    /// Keys starting with a prefix are looked up in the providers of all matching prefixes in order of priority,
+    /// followed by the providers put without prefixes. Other keys are only looked up in the providers put
+    /// without prefixes. A lookup therefore skips the bundles of unrelated namespaces, where each
+    /// key is routed in time proportional to its length regardless of the number of prefixes.
+    ///
+    /// ```
+    /// localize.putBundleProvider("billing", locale -> ResourceBundle.getBundle("i18n.billing", locale), Set.of("Billing."));
+    /// localize.putBundleProvider("admin", locale -> ResourceBundle.getBundle("i18n.admin", locale), Set.of("Admin."));
+    /// localize.putBundleProvider("common", locale -> ResourceBundle.getBundle("i18n.common", locale));
+    ///
+    /// localize.getValue("Billing.total"); // Looks up "billing", then "common"
+    /// localize.getValue("MyApp.greet");   // Looks up "common"
+    /// ```
+    ///
+    /// Enumerating keys (e.g., [#getKeys(String)] and [#getResourceBundles()]) includes all providers.
+    ///
+    /// @param key      Key associated with `provider`.
+    /// @param provider Called upon calling refresh to get a ResourceBundle instance.
+    /// @param prefixes Key prefixes routed to `provider`, or an empty set to consult it for all keys.
+    /// @return         `true` if the key had no association prior. Otherwise, `false` is
+    ///                 returned when the previous entry is replaced with the new provider.
+    /// @throws NullPointerException If `key`, `provider`, `prefixes`, or any prefix is `null`.
+    /// @throws IllegalArgumentException If any prefix is empty.
+    /// @see #putBundleProvider(String, ResourceBundleProvider)
+    /// @since 1.4
+    public boolean putBundleProvider(String key, ResourceBundleProvider provider, Set<String> prefixes) {
+        Objects.requireNonNull(prefixes, "prefixes must not be null");
+        if (prefixes.contains("")) {
+            throw new IllegalArgumentException("prefixes must not be empty: " + prefixes);
+        }
+
+        ProviderEntry entry = new ProviderEntry(key, provider, prefixes);
+        ProviderSnapshot previous = publish(entry, ProviderSnapshot::put);
+        return previous.get(key) == null;
     }
 
     /// Adds the given provider and returns the generated unique key linked to it.
@@ -226,21 +307,18 @@ public abstract class Localize {
     /// @throws NullPointerException If `provider` is `null`.
     /// @since 1.3
     public String addBundleProvider(ResourceBundleProvider provider) {
-        ProviderEntry entry;
+        Objects.requireNonNull(provider, "provider must not be null");
         String uniqueKey;
 
-        synchronized (providerStore) {
-            // Ensure the key is unique.
-            // NOTE: In nearly every single case there is only 1 iteration
-            do {
-                uniqueKey = UUID.randomUUID().toString();
-            } while (providerStore.get(uniqueKey) != null);
+        // Ensure the key is unique.
+        // NOTE: In nearly every single case there is only 1 iteration
+        do {
+            uniqueKey = UUID.randomUUID().toString();
+        } while (publish(
+            new ProviderEntry(uniqueKey, provider),
+            (current, entry) -> current.get(entry.getKey()) == null ? current.put(entry) : null
+        ) == null);
 
-            entry =  new ProviderEntry(uniqueKey, provider);
-            providerStore.add(entry);
-        }
-
-        refresh(entry);
         return uniqueKey;
     }
 
@@ -249,7 +327,15 @@ public abstract class Localize {
     /// @param key Key associated with the provider to remove.
     /// @return    `true` if the provider was removed.
     public boolean removeBundleProvider(String key) {
-        return providerStore.remove(key);
+        ProviderSnapshot current;
+        ProviderSnapshot next;
+
+        do {
+            current = snapshot.get();
+            next = current.remove(key);
+        } while (current != next && !snapshot.compareAndSet(current, next));
+
+        return current != next;
     }
 
     /// Triggers a refresh for the specified provider to fetch a new [ResourceBundle].
@@ -262,11 +348,12 @@ public abstract class Localize {
     ///            Otherwise, `false` is returned if the provider was not found.
     /// @see #putBundleProvider(String, ResourceBundleProvider)
     public boolean refresh(String key) {
-        ProviderEntry entry = providerStore.get(key);
+        ProviderEntry entry = snapshot.get().get(key);
         boolean isFound = entry != null;
 
         if (isFound) {
-            refresh(entry);
+            localeSnapshots.replaceAll((locale, localeSnapshot) -> localeSnapshot.remove(key));
+            publish(entry, ProviderSnapshot::replace);
         }
 
         return isFound;
@@ -277,9 +364,90 @@ public abstract class Localize {
     /// Useful for reloading bundles from external sources (e.g., disk)
     /// after their contents have changed during runtime.
     public void refresh() {
+        localeSnapshots.clear();
         refresh(getLocale());
     }
 
+    /// Returns a lightweight read-only view to retrieve localized values in the given locale.
+    ///
+    /// The current locale of this instance is unaffected. Views of the same locale share
+    /// their bundles, which are loaded once upon first use unless the given locale
+    /// matches the current locale.
+    ///
+    /// ### Example Usage
+    /// ```
+    /// String en = localize.forLocale(Locale.ENGLISH).getValue("MyApp.greet"); // "Good Morning"
+    /// String ja = localize.forLocale(Locale.JAPANESE).getValue("MyApp.greet"); // "おはよう"
+    /// ```
+    ///
+    /// @param locale Locale of the view.
+    /// @return       **Thread-safe** view of this instance in the given locale.
+    /// @throws NullPointerException If `locale` is `null`.
+    /// @since 1.4
+    public LocalizeView forLocale(Locale locale) {
+        return new LocalizeView(this, assertLocale(locale));
+    }
+
+    /// Binds the given locale to the current thread until the returned scope is closed.
+    ///
+    /// While bound, all values retrieved through this instance on the current thread
+    /// use bundles of the bound locale, shared with [#forLocale(Locale)], without changing
+    /// the current locale. Scopes may be nested, where closing restores the locale bound prior.
+    ///
+    /// Useful to avoid passing a locale through every layer of a request handler:
+    /// ```
+    /// try (LocaleScope scope = localize.bindLocale(request.getLocale())) {
+    ///     handle(request); // Any `localize.getValue` calls use the bound locale
+    /// }
+    /// ```
+    ///
+    /// @param locale Locale to bind to the current thread.
+    /// @return       Scope to close on the current thread once done.
+    /// @throws NullPointerException If `locale` is `null`.
+    /// @see #runWithLocale(Locale, Runnable)
+    /// @see #callWithLocale(Locale, Supplier)
+    /// @since 1.4
+    public LocaleScope bindLocale(Locale locale) {
+        return new LocaleScope(scopedLocale, assertLocale(locale));
+    }
+
+    /// Runs the given action with the given locale bound to the current thread.
+    ///
+    /// @param locale Locale to bind during the action.
+    /// @param action Action to run.
+    /// @throws NullPointerException If `locale` or `action` is `null`.
+    /// @see #bindLocale(Locale)
+    /// @since 1.4
+    public void runWithLocale(Locale locale, Runnable action) {
+        Objects.requireNonNull(action, "action must not be null");
+        try (LocaleScope ignored = bindLocale(locale)) {
+            action.run();
+        }
+    }
+
+    /// Calls the given action with the given locale bound to the current thread.
+    ///
+    /// @param locale Locale to bind during the action.
+    /// @param action Action to call.
+    /// @param <T>    Result type.
+    /// @return       The result of the action.
+    /// @throws NullPointerException If `locale` or `action` is `null`.
+    /// @see #bindLocale(Locale)
+    /// @since 1.4
+    public <T> T callWithLocale(Locale locale, Supplier<T> action) {
+        Objects.requireNonNull(action, "action must not be null");
+        try (LocaleScope ignored = bindLocale(locale)) {
+            return action.get();
+        }
+    }
+
+    /// {@return The locale bound to the current thread, or `null` if none}
+    /// @see #bindLocale(Locale)
+    /// @since 1.4
+    public Locale getScopedLocale() {
+        return scopedLocale.get();
+    }
+
     /// Returns a builder instance to get a formatted localized string.
     ///
     /// @param key Key associated with the resource value to retrieve.
@@ -287,7 +455,7 @@ public abstract class Localize {
     /// @throws NullPointerException If `key` is `null`.
     /// @see LocalizationValueBuilder#value
     public LocalizationValueBuilder<?> get(String key) {
-        return new LocalizationValueBuilder<>(key, this::applyBuilderProperties);
+        return new LocalizationValueBuilder<>(key, getApplier());
     }
 
     /// Equivalent to [#get(String)].
@@ -300,6 +468,25 @@ public abstract class Localize {
         return get(key.getKey());
     }
 
+    /// Prepares a message to be formatted with positional values, mapped to the given argument names in order.
+    ///
+    /// Avoids creating a builder and an argument map for each value, such as for frequently formatted messages.
+    /// ```
+    /// PreparedMessage people = localize.prepare("MyApp.people", "location", "num_people");
+    /// people.format("campus", 100); // "There are 100 people on campus."
+    /// ```
+    ///
+    /// @param key           Key associated with the resource value to format.
+    /// @param argumentNames Distinct names of arguments, where numbered arguments are named `"0"`, `"1"`, etc.
+    /// @return              **Thread-safe** prepared message.
+    /// @throws NullPointerException If `key` or any argument name is `null`.
+    /// @throws IllegalArgumentException If an argument name is duplicated.
+    /// @see LocalizedMessages
+    /// @since 1.4
+    public PreparedMessage prepare(String key, String... argumentNames) {
+        return new PreparedMessage(key, getApplier(), argumentNames);
+    }
+
     /// Retrieves the value associated with a resource bundle key.
     ///
     /// @param key Key associated with the resource value to retrieve.
@@ -320,14 +507,73 @@ public abstract class Localize {
         return getValue(key.getKey());
     }
 
+    /// Returns the statistics of the key filters of the bundles of the current locale by provider key.
+    ///
+    /// @return Immutable map of the statistics at the time of calling in order of priority,
+    ///         only including bundles with a filter built.
+    /// @see LocalizeConfig#setBundleKeyFiltering(boolean)
+    /// @since 1.4
+    public Map<String, KeyFilterStatistics> getKeyFilterStatistics() {
+        Map<String, KeyFilterStatistics> statistics = new LinkedHashMap<>();
+
+        for (ProviderEntry entry : snapshot.get().getEntries()) {
+            KeyFilter filter = entry.getBuiltKeyFilter();
+            if (filter != null) {
+                statistics.put(entry.getKey(), filter.getStatistics());
+            }
+        }
+        return Collections.unmodifiableMap(statistics);
+    }
+
+    /// Returns the statistics of the cache of formatted values.
+    ///
+    /// @return Statistics at the time of calling, or [CacheStatistics#EMPTY] if caching is disabled.
+    /// @see LocalizeConfig#setOutputCacheSize(int)
+    /// @since 1.4
+    public CacheStatistics getOutputCacheStatistics() {
+        OutputCache cache = getOutputCache();
+        return cache == null ? CacheStatistics.EMPTY : cache.getStatistics();
+    }
+
+    /// Retrieves all keys starting with the given prefix across all providers,
+    /// in the locale bound to the current thread, otherwise in the current locale.
+    ///
+    /// Useful for enumerating a namespace of keys, such as to build menus:
+    /// ```
+    /// for (String key : localize.getKeys("MyApp.settings.")) {
+    ///     menu.add(localize.getValue(key));
+    /// }
+    /// ```
+    ///
+    /// The keys of each bundle are indexed once on first use,
+    /// so retrieval takes time proportional to the number of matching keys.
+    ///
+    /// @param prefix Prefix of keys, where an empty prefix matches all keys.
+    /// @return       Immutable list of matching keys, sorted and distinct.
+    /// @throws NullPointerException If `prefix` is `null`.
+    /// @since 1.4
+    public List<String> getKeys(String prefix) {
+        Objects.requireNonNull(prefix, "prefix must not be null");
+        return KeyIndex.getKeys(getCurrentSnapshot().getBundles(), prefix);
+    }
+
     /// Returns all contained resource bundles.
     ///
     /// @return Immutable snapshot of all resource bundles at the time of calling.
     public Collection<ResourceBundle> getResourceBundles() {
-        return providerStore.stream()
-                      .map(ProviderEntry::getBundle)
-                      .filter(Objects::nonNull)
-                      .toList();
+        return snapshot.get().getBundles();
+    }
+
+    /// {@return The applier of builders, which applies requests through [#applyBuilderProperties]
+    ///          and [#appendBuilderProperties]}
+    /// @since 1.4
+    protected LocalizationValueBuilder.Applier getApplier() {
+        return applier;
+    }
+
+    /// {@return A new applier of builders with bundles of the given locale, such as for a [LocalizeView]}
+    LocalizationValueBuilder.Applier getApplier(Locale locale) {
+        return new BuilderApplier(locale);
     }
 
     /// Applies and transforms the request into a formatted localized string.
@@ -335,87 +581,378 @@ public abstract class Localize {
     /// @param request Request to format string with.
     /// @return Requested formatted localized string.
     protected String applyBuilderProperties(LocalizationRequest request) {
-        String value = null;
+        return applyBuilderProperties(request, getCurrentSnapshot());
+    }
+
+    /// Equivalent to [#applyBuilderProperties(LocalizationRequest)],
+    /// though appends the formatted localized string to the given destination.
+    ///
+    /// @param request Request to format string with.
+    /// @param out     Destination to append to.
+    /// @throws IOException If appending to `out` fails.
+    /// @since 1.4
+    protected void appendBuilderProperties(LocalizationRequest request, Appendable out) throws IOException {
+        appendBuilderProperties(request, getCurrentSnapshot(), out);
+    }
+
+    /// {@return The snapshot of the locale bound to the current thread, otherwise of the current locale}
+    private ProviderSnapshot getCurrentSnapshot() {
+        Locale locale = scopedLocale.get();
+        // A single read provides a consistent view of all bundles
+        return locale == null ? snapshot.get() : getSnapshot(locale);
+    }
+
+    private String applyBuilderProperties(LocalizationRequest request, ProviderSnapshot snapshot) {
+        OutputCache cache = getOutputCache();
+        LocalizationRequestProcessor processor = getProcessor();
+        OutputCache.Key key = cache != null && OutputCache.isCacheable(request)
+                              ? OutputCache.createKey(snapshot.getVersion(), processor, request)
+                              : null;
+        String value = key != null ? cache.get(key) : null;
+
+        if (value != null) return value;
+
+        value = findValue(request, snapshot, processor);
+        if (value == null) {
+            value = getMissingValue(request, snapshot);
+        } else if (key != null) {
+            // Only found values are cached, as defaults may change with the configuration
+            cache.put(key, value);
+        }
+        return value;
+    }
+
+    /// {@return The value of the request processed from the first bundle containing it, or `null` if not found}
+    private String findValue(LocalizationRequest request, ProviderSnapshot snapshot, LocalizationRequestProcessor processor) {
+        return search(request, snapshot, processor, null, Localize::process);
+    }
+
+    /// Searches the bundles of the snapshot in order with the given search, until it finds the request.
+    ///
+    /// As configured, bundles are skipped if their key filter rules out the key, or if another provider
+    /// is remembered as the owner of the key. Owners are only remembered once all entries prior were
+    /// searched without exceptions.
+    ///
+    /// @param processor Processor passed to `search`.
+    /// @param out       Destination passed to `search`, or `null` if unused.
+    /// @param search    Processes the request with a single bundle.
+    /// @return          The result of the first bundle containing the request, or `null` if not found.
+    /// @throws X If `search` fails with a checked exception.
+    private <R, X extends Exception> R search(LocalizationRequest request,
+                                              ProviderSnapshot snapshot,
+                                              LocalizationRequestProcessor processor,
+                                              Appendable out,
+                                              BundleSearch<R, X> search) throws X {
+        boolean isResolvedByKey = isResolvedByKey(processor);
+        boolean isFiltered = isResolvedByKey && getConfig().isBundleKeyFiltering();
+        Map<String, ProviderEntry> owners = isResolvedByKey ? getKeyOwners(snapshot) : null;
+        String key = request.getKey();
         ResourceBundle bundle;
 
-        for (ProviderEntry entry : providerStore) {
-            if ((bundle = entry.getBundle()) != null) try {
-                value = getProcessor().process(bundle, request);
+        if (owners != null) {
+            ProviderEntry owner = owners.get(key);
+            if (owner == ProviderSnapshot.NO_OWNER) return null;
+
+            if (owner != null && (bundle = owner.getBundle()) != null) {
+                try {
+                    R result = search.search(processor, bundle, request, out);
+                    if (result != null) return result;
+                } catch (RuntimeException e) {
+                    if (!getConfig().isIgnoreProcessingExceptions()) {
+                        throw e;
+                    }
+                }
+            }
+        }
+
+        // Whether all entries prior were searched without exceptions, so the owner may be remembered
+        boolean isSearched = true;
+        for (ProviderEntry entry : snapshot.getEntries(key)) {
+            if ((bundle = entry.getBundle()) == null) continue;
 
-                if (value != null) {
-                    break;
+            KeyFilter filter = isFiltered ? entry.getKeyFilter() : null;
+            if (filter != null && !filter.mightContain(key)) continue;
+
+            try {
+                R result = search.search(processor, bundle, request, out);
+
+                if (result != null) {
+                    if (isSearched) rememberOwner(owners, key, entry);
+                    return result;
+                } else if (filter != null) {
+                    filter.recordFalsePositive();
                 }
             } catch (RuntimeException e) {
                 if (!getConfig().isIgnoreProcessingExceptions()) {
                     throw e;
                 }
+                isSearched = false;
             }
         }
 
-        if (value == null) {
-            if (request.hasDefaultValue()) {
-                value = request.getDefaultValue();
-            } else if (getConfig().isThrowWhenNoValueFound()) {
-                throw new MissingResourceException(
-                        "Cannot find resource for " + getClass().getName() +
-                                ", key " + request.getKey() +
-                                ", bundles: " + getResourceBundles(),
-                        getClass().getName(),
-                        request.getKey()
-                );
-            } else {
-                value = getConfig().getDefaultMissingValue();
+        if (isSearched) rememberOwner(owners, key, ProviderSnapshot.NO_OWNER);
+        return null;
+    }
+
+    /// Applies the request into a formatted localized string encoded in UTF-8.
+    ///
+    /// Values of requests without arguments are encoded once per snapshot, so static values
+    /// only cost a lookup. The returned array may be shared and must not be modified.
+    private byte[] encodeBuilderProperties(LocalizationRequest request, ProviderSnapshot snapshot) {
+        if (request.hasArguments()) {
+            return applyBuilderProperties(request, snapshot).getBytes(StandardCharsets.UTF_8);
+        }
+
+        LocalizationRequestProcessor processor = getProcessor();
+        Map<String, byte[]> encodedValues = snapshot.getEncodedValues(processor);
+        byte[] encoded = encodedValues.get(request.getKey());
+
+        if (encoded == null) {
+            String value = findValue(request, snapshot, processor);
+            // Only found values are cached, as defaults may change with the request or configuration
+            if (value == null) return getMissingValue(request, snapshot).getBytes(StandardCharsets.UTF_8);
+
+            encoded = value.getBytes(StandardCharsets.UTF_8);
+            if (processor == getProcessor()) {
+                encodedValues.put(request.getKey(), encoded);
             }
         }
-        return value;
+        return encoded;
     }
 
-    /// Triggers all providers to refresh and fetch new [ResourceBundle] instances with a given [Locale].
+    private void appendBuilderProperties(LocalizationRequest request, ProviderSnapshot snapshot, Appendable out) throws IOException {
+        OutputCache cache = getOutputCache();
+
+        // Cached values are strings either way
+        if (cache != null && OutputCache.isCacheable(request)) {
+            out.append(applyBuilderProperties(request, snapshot));
+            return;
+        }
+
+        if (search(request, snapshot, getProcessor(), out, Localize::processTo) == null) {
+            out.append(getMissingValue(request, snapshot));
+        }
+    }
+
+    /// [BundleSearch] of the processed value.
+    private static String process(LocalizationRequestProcessor processor,
+                                  ResourceBundle bundle,
+                                  LocalizationRequest request,
+                                  Appendable out) {
+        return processor.process(bundle, request);
+    }
+
+    /// [BundleSearch] appending the processed value, resulting in [Boolean#TRUE] if appended.
+    private static Boolean processTo(LocalizationRequestProcessor processor,
+                                     ResourceBundle bundle,
+                                     LocalizationRequest request,
+                                     Appendable out) throws IOException {
+        return processor.processTo(bundle, request, out) ? Boolean.TRUE : null;
+    }
+
+    /// {@return `true` if the processor only finds values by the requested key, so bundles may be skipped by key}
+    private boolean isResolvedByKey(LocalizationRequestProcessor processor) {
+        return processor instanceof LocalizationPipeline pipeline && pipeline.isBundleResolved();
+    }
+
+    /// {@return The remembered owners of keys of the snapshot, or `null` if disabled}
+    private Map<String, ProviderEntry> getKeyOwners(ProviderSnapshot snapshot) {
+        return getConfig().getKeyOwnerCacheSize() == 0 ? null : snapshot.getKeyOwners();
+    }
+
+    /// Remembers the owner of the key unless disabled, or the configured size is reached.
+    private void rememberOwner(Map<String, ProviderEntry> owners, String key, ProviderEntry owner) {
+        if (owners != null && owners.size() < getConfig().getKeyOwnerCacheSize()) {
+            owners.putIfAbsent(key, owner);
+        }
+    }
+
+    /// @return The default value of the request, otherwise the configured missing value.
+    /// @throws MissingResourceException If configured to throw when no value is found.
+    private String getMissingValue(LocalizationRequest request, ProviderSnapshot snapshot) {
+        MissingKeyCollector collector = missingKeyCollector;
+        if (collector != null) {
+            Locale locale = snapshot.getLocale();
+            collector.record(request.getKey(), locale == null ? getLocale() : locale);
+        }
+
+        if (request.hasDefaultValue()) {
+            return request.getDefaultValue();
+        } else if (getConfig().isThrowWhenNoValueFound()) {
+            throw new MissingResourceException(
+                    "Cannot find resource for " + getClass().getName() +
+                            ", key " + request.getKey() +
+                            ", bundles: " + snapshot.getBundles(),
+                    getClass().getName(),
+                    request.getKey()
+            );
+        }
+        return getConfig().getDefaultMissingValue();
+    }
+
+    /// {@return The cache of formatted values, or `null` if disabled}
+    private OutputCache getOutputCache() {
+        int size = getConfig().getOutputCacheSize();
+        if (size == 0) return null;
+
+        OutputCache cache = outputCache.get();
+        return cache != null && cache.getCapacity() == size
+               ? cache
+               : outputCache.updateAndGet(current -> current != null && current.getCapacity() == size
+                                                     ? current
+                                                     : new OutputCache(size));
+    }
+
+    /// Retrieves the snapshot of all providers with bundles of the given locale.
     ///
-    /// @param locale Locale to refresh all providers with.
-    protected void refresh(Locale locale) {
-        record VersionBundle(long version, ResourceBundle bundle) {}
+    /// The current snapshot is returned if its locale matches. Otherwise, bundles are loaded once
+    /// per locale and only reloaded for providers that were added, replaced, or refreshed since.
+    ///
+    /// @param locale Locale of all bundles.
+    /// @return       Snapshot of the current providers with bundles of the given locale.
+    ProviderSnapshot getSnapshot(Locale locale) {
+        ProviderSnapshot current = snapshot.get();
+        if (locale.equals(current.getLocale())) return current;
 
-        Map<ProviderEntry, VersionBundle> newBundles = new IdentityHashMap<>();
+        while (true) {
+            LocaleSnapshot localeSnapshot = localeSnapshots.get(locale);
 
-        for (ProviderEntry entry : providerStore) {
-            // Stop early if the locale changes mid-way or the thread is interrupted
-            if (!locale.equals(getLocale()) || Thread.currentThread().isInterrupted()) return;
+            if (localeSnapshot != null && !localeSnapshot.isDone()) {
+                // Concurrent first lookups of a locale only load once
+                localeSnapshot.await(locale);
+                continue;
+            }
+
+            ProviderSnapshot previous = localeSnapshot == null ? null : localeSnapshot.getLoaded();
+            if (previous != null && previous.hasSameProviders(current)) return previous;
 
-            long version = entry.version.incrementAndGet();
-            ResourceBundle bundle = getResourceBundle(entry, locale);
-            newBundles.put(entry, new VersionBundle(version, bundle));
+            LocaleSnapshot load = new LocaleSnapshot();
+            boolean isLoading = localeSnapshot == null
+                                ? localeSnapshots.putIfAbsent(locale, load) == null
+                                : localeSnapshots.replace(locale, localeSnapshot, load);
+            if (!isLoading) continue;
+
+            // Loaded outside of the map, as providers may be slow or look up values of other locales
+            try {
+                ProviderSnapshot loaded = loadSnapshot(current, previous, locale);
+                load.complete(loaded);
+                return loaded;
+            } catch (RuntimeException | Error e) {
+                // Others waiting retry with the previous snapshot, if any
+                if (localeSnapshot == null) {
+                    localeSnapshots.remove(locale, load);
+                } else {
+                    localeSnapshots.replace(locale, load, localeSnapshot);
+                }
+                load.fail(e);
+                throw e;
+            }
         }
+    }
 
-        // Apply the new bundles
-        synchronized (providerLock) {
-            if (locale.equals(getLocale())) {
-                for (Map.Entry<ProviderEntry, VersionBundle> mapEntry : newBundles.entrySet()) {
-                    ProviderEntry entry = mapEntry.getKey();
-                    VersionBundle versionBundle = mapEntry.getValue();
+    /// Loads the bundles of the current providers, reusing those of the same providers in `previous`.
+    ///
+    /// @param previous Snapshot previously loaded for the given locale, or `null` if none.
+    private ProviderSnapshot loadSnapshot(ProviderSnapshot current, ProviderSnapshot previous, Locale locale) {
+        List<ProviderEntry> entries = new ArrayList<>(current.getEntries().size());
+        for (ProviderEntry entry : current.getEntries()) {
+            ProviderEntry previousEntry = previous == null ? null : previous.get(entry.getKey());
 
-                    if (entry.version.get() == versionBundle.version) {
-                        entry.bundle = versionBundle.bundle;
-                    }
+            entries.add(previousEntry != null && previousEntry.isSameProvider(entry)
+                        ? previousEntry
+                        : load(entry, locale));
+        }
+        return new ProviderSnapshot(locale, entries);
+    }
+
+    /// Triggers all providers to refresh and fetch new [ResourceBundle] instances with a given [Locale].
+    ///
+    /// @param locale Locale to refresh all providers with.
+    protected void refresh(Locale locale) {
+        // Reuse loads across retries, keyed by the entry they were loaded from
+        Map<ProviderEntry, ProviderEntry> loadedEntries = new IdentityHashMap<>();
+        ProviderSnapshot current = snapshot.get();
+
+        while (true) {
+            List<ProviderEntry> newEntries = new ArrayList<>(current.getEntries().size());
+
+            for (ProviderEntry entry : current.getEntries()) {
+                // Stop early if the locale changes mid-way or the thread is interrupted
+                if (!locale.equals(getLocale()) || Thread.currentThread().isInterrupted()) return;
+
+                ProviderEntry loadedEntry = loadedEntries.get(entry);
+                if (loadedEntry == null) {
+                    loadedEntry = load(entry, locale);
+                    loadedEntries.put(entry, loadedEntry);
                 }
+                newEntries.add(loadedEntry);
             }
+
+            if (!locale.equals(getLocale())) return;
+            if (snapshot.compareAndSet(current, new ProviderSnapshot(locale, newEntries))) return;
+
+            // Providers changed in the meantime, retry while only loading new or replaced entries
+            current = snapshot.get();
         }
     }
 
-    private void refresh(ProviderEntry entry) {
-        long version = entry.version.incrementAndGet();
-        ResourceBundle bundle = getResourceBundle(entry, getLocale());
+    /// Loads the bundle of the given entry and publishes it through `update`.
+    ///
+    /// The bundle is loaded for the locale of the current snapshot,
+    /// and reloaded if the locale changes before publishing.
+    ///
+    /// @param entry  Entry to load.
+    /// @param update Function to apply the loaded entry to the current snapshot.
+    ///               May return `null` to abort publishing.
+    /// @return       The replaced snapshot, or `null` if aborted.
+    private ProviderSnapshot publish(ProviderEntry entry, BiFunction<ProviderSnapshot, ProviderEntry, ProviderSnapshot> update) {
+        ProviderEntry loadedEntry = null;
+        Locale loadedLocale = null;
+        ProviderSnapshot current;
+        ProviderSnapshot next;
 
-        synchronized (providerLock) {
-            if (version == entry.version.get()) {
-                entry.bundle = bundle;
+        do {
+            current = snapshot.get();
+            Locale locale = current.getLocale() == null ? getLocale() : current.getLocale();
+
+            if (!locale.equals(loadedLocale)) {
+                loadedEntry = load(entry, locale);
+                loadedLocale = locale;
             }
+
+            next = update.apply(current.withLocale(locale), loadedEntry);
+            if (next == null) return null;
+        } while (current != next && !snapshot.compareAndSet(current, next));
+
+        return current;
+    }
+
+    /// @return A copy of the given entry with a newly loaded bundle for the given locale,
+    ///         or with a deferred load if [LocalizeConfig#isLazyBundleLoading()] is `true`.
+    private ProviderEntry load(ProviderEntry entry, Locale locale) {
+        long generation = loadGeneration.incrementAndGet();
+        if (getConfig().isLazyBundleLoading()) {
+            return entry.withLoader(() -> getResourceBundle(entry, locale), generation);
         }
+
+        ProviderEntry loadedEntry = entry.withBundle(getResourceBundle(entry, locale), generation);
+        // Built along with the bundle, rather than upon the first lookup
+        if (getConfig().isBundleKeyFiltering()) loadedEntry.getKeyFilter();
+        return loadedEntry;
     }
 
     /// @return The corresponding [ResourceBundle], or `null` if it was not found
     ///         and [LocalizeConfig#isIgnoreMissingResourceBundles()] is `true`.
     private ResourceBundle getResourceBundle(ProviderEntry entry, Locale locale) {
+        Path snapshotDirectory = getConfig().getSnapshotDirectory();
+        String fingerprint = snapshotDirectory == null ? null : entry.getProvider().getFingerprint(locale);
+
+        if (fingerprint != null) {
+            ResourceBundle snapshot = BundleSnapshots.read(snapshotDirectory, entry.getKey(), locale, fingerprint);
+            // Already includes the values of its parents
+            if (snapshot != null) return snapshot;
+        }
+
         ResourceBundle bundle = null;
 
         try {
@@ -425,115 +962,130 @@ public abstract class Localize {
                 throw e;
             }
         }
-        return bundle;
-    }
 
-    private static String processRequest(ResourceBundle bundle, LocalizationRequest request) {
-        String value = null;
-
-        if (bundle.containsKey(request.getKey())) {
-            value = bundle.getString(request.getKey());
-
-            if (request.hasArguments()) {
-                value = MessageFormat.format(value, request.getArguments());
-            }
+        if (bundle != null && fingerprint != null) {
+            BundleSnapshots.write(snapshotDirectory, entry.getKey(), locale, fingerprint, bundle);
         }
 
-        return value;
+        if (bundle != null && getConfig().isFlattenResourceBundles()) {
+            bundle = FlattenedResourceBundle.of(bundle);
+        }
+        return bundle;
     }
 
     private static Locale assertLocale(Locale locale) {
         return Objects.requireNonNull(locale, "locale must not be null");
     }
 
-    private static final class LocalizeImpl extends Localize {
-        private final AtomicReference<Locale> locale;
+    /// Snapshot of a locale for views, loaded by a single lookup while concurrent lookups of the locale wait.
+    private static final class LocaleSnapshot {
+        private final CompletableFuture<ProviderSnapshot> snapshot;
+        private final Thread loader;
 
-        private LocalizeImpl(Locale locale, LocalizeConfig config) {
-            super(config);
-            this.locale = new AtomicReference<>(locale);
+        private LocaleSnapshot() {
+            this(new CompletableFuture<>(), Thread.currentThread());
         }
 
-        @Override public void setLocale(Locale locale) {
-            assertLocale(locale);
-            // If the given new `locale` is equivalent to the current locale,
-            // no replacement is performed, matching `LocalizeFXImpl#setLocale`.
-            Locale previous = this.locale.getAndUpdate(old -> old.equals(locale) ? old : locale);
+        private LocaleSnapshot(CompletableFuture<ProviderSnapshot> snapshot, Thread loader) {
+            this.snapshot = snapshot;
+            this.loader = loader;
+        }
 
-            if (!locale.equals(previous)) {
-                refresh(locale);
+        private boolean isDone() {
+            return snapshot.isDone();
+        }
+
+        /// {@return The loaded snapshot, or `null` if loading failed}
+        private ProviderSnapshot getLoaded() {
+            return snapshot.isCompletedExceptionally() ? null : snapshot.getNow(null);
+        }
+
+        /// Waits until loaded, where failures are only thrown to the loading lookup.
+        ///
+        /// @throws IllegalStateException If called while loading the locale on the same thread.
+        private void await(Locale locale) {
+            if (loader == Thread.currentThread()) {
+                throw new IllegalStateException("Bundles of " + locale + " must not be looked up while loading them");
             }
+            snapshot.handle((loaded, e) -> null).join();
         }
 
-        @Override public Locale getLocale() {
-            return locale.get();
+        private void complete(ProviderSnapshot loaded) {
+            snapshot.complete(loaded);
+        }
+
+        private void fail(Throwable e) {
+            snapshot.completeExceptionally(e);
+        }
+
+        /// {@return A copy without the entry associated with the given key, once loaded}
+        private LocaleSnapshot remove(String key) {
+            return new LocaleSnapshot(snapshot.thenApply(loaded -> loaded.remove(key)), loader);
         }
     }
 
-    /// Container to encapsulate a resource bundle and associated fields.
-    private static final class ProviderEntry {
-        private final String key;
-        private final ResourceBundleProvider provider;
-        /// A counter to stop stale refreshes early.
-        private final AtomicLong version = new AtomicLong();
-        private volatile ResourceBundle bundle;
+    /// Processes a request with a single bundle while searching bundles in order.
+    ///
+    /// @param <R> Result type.
+    /// @param <X> Checked exception type, or [RuntimeException] if none.
+    @FunctionalInterface
+    private interface BundleSearch<R, X extends Exception> {
+        /// @return The result of processing the request with the bundle, or `null` if not found.
+        R search(LocalizationRequestProcessor processor,
+                 ResourceBundle bundle,
+                 LocalizationRequest request,
+                 Appendable out) throws X;
+    }
 
-        /// Creates an entry container instance.
-        ///
-        /// @param key      Identifier of this entry instance to construct.
-        /// @param provider Provider to fetch new resource bundles on refresh.
-        private ProviderEntry(String key, ResourceBundleProvider provider) {
-            this.key = Objects.requireNonNull(key, "key must not be null");
-            this.provider = Objects.requireNonNull(provider, "provider must not be null");
+    /// Applies requests with bundles of a fixed locale,
+    /// otherwise of the current locale (or the locale bound to the current thread) if `null`.
+    private final class BuilderApplier implements LocalizationValueBuilder.Applier {
+        private final Locale locale;
+
+        private BuilderApplier(Locale locale) {
+            this.locale = locale;
         }
 
-        /// {@return The entry identifier}
-        public String getKey() {
-            return key;
+        @Override public String evaluate(LocalizationRequest request) {
+            return locale == null
+                   ? applyBuilderProperties(request)
+                   : applyBuilderProperties(request, getSnapshot(locale));
         }
 
-        /// {@return Provider instance}
-        public ResourceBundleProvider getProvider() {
-            return provider;
+        @Override public void evaluateTo(LocalizationRequest request, Appendable out) throws IOException {
+            if (locale == null) {
+                appendBuilderProperties(request, out);
+            } else {
+                appendBuilderProperties(request, getSnapshot(locale), out);
+            }
         }
 
-        /// May be `null` if [LocalizeConfig#isIgnoreMissingResourceBundles()]
-        /// is set to `true` and the most recent fetch failed.
-        ///
-        /// @return Fetched resource bundle.
-        public ResourceBundle getBundle() {
-            return bundle;
+        @Override public byte[] evaluateEncoded(LocalizationRequest request) {
+            return encodeBuilderProperties(request, locale == null ? getCurrentSnapshot() : getSnapshot(locale));
         }
     }
 
-    // Uses a list instead of Map as the number of providers is typically small (1~15).
-    // Reads/iteration are **far greater** than writes
-    private static final class ProviderStore extends CopyOnWriteArrayList<ProviderEntry> {
-        public ProviderEntry get(String key) {
-            for (ProviderEntry entry : this) {
-                if (entry.getKey().equals(key)) {
-                    return entry;
-                }
-            }
-            return null;
+    private static final class LocalizeImpl extends Localize {
+        private final AtomicReference<Locale> locale;
+
+        private LocalizeImpl(Locale locale, LocalizeConfig config) {
+            super(config);
+            this.locale = new AtomicReference<>(locale);
         }
 
-        // Synchronized to ensure that no modifications occur during iteration
-        // (e.g., if `remove` is called, then it'll wait until this method completes)
-        public synchronized boolean put(ProviderEntry newEntry) {
-            for (int i = 0; i < size(); i++) {
-                ProviderEntry entry = get(i);
+        @Override public void setLocale(Locale locale) {
+            assertLocale(locale);
+            // If the given new `locale` is equivalent to the current locale,
+            // no replacement is performed, matching `LocalizeFXImpl#setLocale`.
+            Locale previous = this.locale.getAndUpdate(old -> old.equals(locale) ? old : locale);
 
-                if (entry.getKey().equals(newEntry.getKey())) {
-                    set(i, newEntry);
-                    return false;
-                }
+            if (!locale.equals(previous)) {
+                refresh(locale);
             }
-            return add(newEntry);
         }
 
-        public synchronized boolean remove(String key) {
-            return removeIf(entry -> entry.getKey().equals(key));
+        @Override public Locale getLocale() {
+            return locale.get();
         }
     }
 }
@@ -1,5 +1,6 @@
 package com.devinsterling.localize;
 
+import java.nio.file.Path;
 import java.util.MissingResourceException;
 import java.util.Objects;
 
@@ -10,6 +11,12 @@ import java.util.Objects;
 /// - [isIgnoreProcessingException][LocalizeConfig#setIgnoreProcessingExceptions] = `false`
 /// - [isIgnoreMissingResourceBundles][LocalizeConfig#setIgnoreMissingResourceBundles] = `false`
 /// - [defaultMissingValue][LocalizeConfig#setDefaultMissingValue] = `""`
+/// - [isFlattenResourceBundles][LocalizeConfig#setFlattenResourceBundles] = `false`
+/// - [outputCacheSize][LocalizeConfig#setOutputCacheSize] = `0`
+/// - [isLazyBundleLoading][LocalizeConfig#setLazyBundleLoading] = `false`
+/// - [isBundleKeyFiltering][LocalizeConfig#setBundleKeyFiltering] = `false`
+/// - [keyOwnerCacheSize][LocalizeConfig#setKeyOwnerCacheSize] = `0`
+/// - [snapshotDirectory][LocalizeConfig#setSnapshotDirectory] = `null`
 ///
 /// @since 1.0
 public class LocalizeConfig {
@@ -17,6 +24,12 @@ public class LocalizeConfig {
     private volatile boolean isIgnoreProcessingExceptions = false;
     private volatile boolean isIgnoreMissingResourceBundles = false;
     private volatile String defaultMissingValue = "";
+    private volatile boolean isFlattenResourceBundles = false;
+    private volatile int outputCacheSize = 0;
+    private volatile boolean isLazyBundleLoading = false;
+    private volatile boolean isBundleKeyFiltering = false;
+    private volatile int keyOwnerCacheSize = 0;
+    private volatile Path snapshotDirectory = null;
 
     /// Creates a configuration instance with all values set to their defaults.
     public LocalizeConfig() {}
@@ -64,6 +77,129 @@ public class LocalizeConfig {
         this.defaultMissingValue = defaultMissingValue;
     }
 
+    /// When set to `true`, each loaded resource bundle is resolved along with its parent chain
+    /// (e.g., `zh_Hant_TW` → `zh_Hant` → `zh` → root) into a single table once per locale.
+    ///
+    /// Lookups then require a single hash lookup per provider instead of walking the parent chain,
+    /// which benefits deeply nested locales with many providers at the cost of memory for each table.
+    ///
+    /// Only affects bundles loaded after changing this value (e.g., through [Localize#refresh()]).
+    ///
+    /// The initial value is `false`.
+    ///
+    /// @param isFlattenResourceBundles Flag to flatten resource bundles.
+    /// @since 1.4
+    public void setFlattenResourceBundles(boolean isFlattenResourceBundles) {
+        this.isFlattenResourceBundles = isFlattenResourceBundles;
+    }
+
+    /// The maximum number of formatted values to cache, where `0` disables caching.
+    ///
+    /// When enabled, values found in a bundle are cached by their key, default value, and arguments
+    /// for the bundles they were resolved from, so repeated requests skip the processor entirely.
+    /// Requests with any argument of a possibly mutable type (i.e., other than strings, boxed primitives,
+    /// [java.math.BigInteger], [java.math.BigDecimal], [java.util.Locale], [java.util.UUID], and enums)
+    /// are never cached. The least recently used values are evicted once the size is exceeded.
+    ///
+    /// Useful when the same values are formatted repeatedly (e.g., status labels or item counts).
+    ///
+    /// The initial value is `0`.
+    ///
+    /// @param outputCacheSize Maximum number of cached values.
+    /// @throws IllegalArgumentException If `outputCacheSize` is negative.
+    /// @see Localize#getOutputCacheStatistics()
+    /// @since 1.4
+    public void setOutputCacheSize(int outputCacheSize) {
+        if (outputCacheSize < 0) {
+            throw new IllegalArgumentException("outputCacheSize must not be negative");
+        }
+        this.outputCacheSize = outputCacheSize;
+    }
+
+    /// When set to `true`, resource bundles are no longer loaded upon adding a provider or changing the locale.
+    /// Instead, each provider is called on the first lookup that reaches it, where concurrent lookups
+    /// wait for a single load. Providers only reached as fallbacks may then never be called.
+    ///
+    /// Useful to reduce startup time when registering many providers, of which only a few are used early on.
+    /// Note that a [java.util.MissingResourceException] of a provider is then thrown upon lookup rather than
+    /// when adding the provider, unless [#isIgnoreMissingResourceBundles()] is `true`.
+    ///
+    /// Only affects bundles loaded after changing this value (e.g., through [Localize#refresh()]).
+    ///
+    /// The initial value is `false`.
+    ///
+    /// @param isLazyBundleLoading Flag to defer loading resource bundles.
+    /// @since 1.4
+    public void setLazyBundleLoading(boolean isLazyBundleLoading) {
+        this.isLazyBundleLoading = isLazyBundleLoading;
+    }
+
+    /// When set to `true`, a Bloom filter of the keys of each resource bundle is built once loaded,
+    /// so lookups skip bundles which certainly do not contain the requested key rather than searching
+    /// them and their parents. About 1% of absent keys still pass a filter, and are searched as usual.
+    ///
+    /// Useful when many providers are searched in order, and keys cannot be routed to them by prefix
+    /// (See [Localize#putBundleProvider(String, ResourceBundleProvider, java.util.Set)]).
+    /// Filters are only used with processors resolving keys through [LocalizationPipeline#BUNDLE_RESOLVER]
+    /// (e.g., [Localize#DEFAULT_PROCESSOR]), so values are never affected. Bundles must therefore
+    /// report all of their keys through [java.util.ResourceBundle#keySet()], and not change once loaded.
+    ///
+    /// Only affects lookups after changing this value, where filters of loaded bundles are built on first use.
+    ///
+    /// The initial value is `false`.
+    ///
+    /// @param isBundleKeyFiltering Flag to filter resource bundles by their keys.
+    /// @see Localize#getKeyFilterStatistics()
+    /// @since 1.4
+    public void setBundleKeyFiltering(boolean isBundleKeyFiltering) {
+        this.isBundleKeyFiltering = isBundleKeyFiltering;
+    }
+
+    /// The maximum number of keys per locale whose providers are remembered, where `0` disables remembering.
+    ///
+    /// When enabled, the provider a key was found in, or that no provider contains it, is remembered
+    /// once all providers of higher priority were searched. Further lookups of the key then only search
+    /// that provider, rather than each provider in order, so the provider of highest priority still wins.
+    /// Remembered providers are forgotten whenever providers or the locale change.
+    ///
+    /// Useful when many providers are searched in order and most lookups are found in later providers.
+    /// As with [#setBundleKeyFiltering(boolean)], providers are only remembered with processors resolving
+    /// keys through [LocalizationPipeline#BUNDLE_RESOLVER], and bundles must not change once loaded.
+    /// Once the size is reached, further keys are searched as usual.
+    ///
+    /// The initial value is `0`.
+    ///
+    /// @param keyOwnerCacheSize Maximum number of remembered keys per locale.
+    /// @throws IllegalArgumentException If `keyOwnerCacheSize` is negative.
+    /// @since 1.4
+    public void setKeyOwnerCacheSize(int keyOwnerCacheSize) {
+        if (keyOwnerCacheSize < 0) {
+            throw new IllegalArgumentException("keyOwnerCacheSize must not be negative");
+        }
+        this.keyOwnerCacheSize = keyOwnerCacheSize;
+    }
+
+    /// The directory to keep snapshots of loaded bundles in, where `null` disables snapshots.
+    ///
+    /// When enabled, each bundle loaded from a provider with a fingerprint
+    /// (see [ResourceBundleProvider#getFingerprint(java.util.Locale)]) is written to a file of the directory,
+    /// including the values of its parents. Once the same provider key, locale, and fingerprint are
+    /// loaded again, such as by a later process, the file is mapped into memory in place of calling
+    /// the provider, so that starting up skips parsing the sources of the bundle.
+    /// If the fingerprint changed, the bundle is loaded from the provider as usual and its snapshot replaced.
+    ///
+    /// Bundles restored from a snapshot have no parents and only support string values,
+    /// so bundles containing other values are never written. Failures to read or write snapshots
+    /// are ignored, falling back to loading from the provider.
+    ///
+    /// The initial value is `null`.
+    ///
+    /// @param snapshotDirectory Directory of snapshots, created if absent, or `null` to disable snapshots.
+    /// @since 1.4
+    public void setSnapshotDirectory(Path snapshotDirectory) {
+        this.snapshotDirectory = snapshotDirectory;
+    }
+
     /// {@return `true`, if an exception is to be thrown.}
     public boolean isThrowWhenNoValueFound() {
         return isThrowWhenNoValueFound;
@@ -84,12 +220,54 @@ public class LocalizeConfig {
         return defaultMissingValue;
     }
 
+    /// {@return `true`, if resource bundles are flattened with their parents.}
+    /// @since 1.4
+    public boolean isFlattenResourceBundles() {
+        return isFlattenResourceBundles;
+    }
+
+    /// {@return Maximum number of cached formatted values, or `0` if disabled.}
+    /// @since 1.4
+    public int getOutputCacheSize() {
+        return outputCacheSize;
+    }
+
+    /// {@return `true`, if resource bundles are loaded upon first lookup.}
+    /// @since 1.4
+    public boolean isLazyBundleLoading() {
+        return isLazyBundleLoading;
+    }
+
+    /// {@return `true`, if resource bundles are filtered by their keys.}
+    /// @since 1.4
+    public boolean isBundleKeyFiltering() {
+        return isBundleKeyFiltering;
+    }
+
+    /// {@return Maximum number of remembered keys per locale, or `0` if disabled.}
+    /// @since 1.4
+    public int getKeyOwnerCacheSize() {
+        return keyOwnerCacheSize;
+    }
+
+    /// {@return The directory of snapshots of loaded bundles, or `null` if disabled}
+    /// @since 1.4
+    public Path getSnapshotDirectory() {
+        return snapshotDirectory;
+    }
+
     @Override public boolean equals(Object obj) {
         if (!(obj instanceof LocalizeConfig config)) return false;
         if (config == this) return true;
         return this.isIgnoreMissingResourceBundles == config.isIgnoreMissingResourceBundles
                 && this.isIgnoreProcessingExceptions == config.isIgnoreProcessingExceptions
                 && this.isThrowWhenNoValueFound == config.isThrowWhenNoValueFound
+                && this.isFlattenResourceBundles == config.isFlattenResourceBundles
+                && this.outputCacheSize == config.outputCacheSize
+                && this.isLazyBundleLoading == config.isLazyBundleLoading
+                && this.isBundleKeyFiltering == config.isBundleKeyFiltering
+                && this.keyOwnerCacheSize == config.keyOwnerCacheSize
+                && Objects.equals(this.snapshotDirectory, config.snapshotDirectory)
                 && this.defaultMissingValue.equals(config.defaultMissingValue);
     }
 
@@ -98,6 +276,12 @@ public class LocalizeConfig {
             isIgnoreMissingResourceBundles,
             isIgnoreProcessingExceptions,
             isThrowWhenNoValueFound,
+            isFlattenResourceBundles,
+            outputCacheSize,
+            isLazyBundleLoading,
+            isBundleKeyFiltering,
+            keyOwnerCacheSize,
+            snapshotDirectory,
             defaultMissingValue
         );
     }
@@ -0,0 +1,111 @@
+package com.devinsterling.localize;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.ResourceBundle;
+
+/// Lightweight read-only view of a [Localize] instance for a fixed [Locale].
+///
+/// Views retrieve values from the providers, processor, and configuration of the
+/// [Localize] instance they originate from, without touching its current locale.
+/// Bundles are shared between all views of the same locale and loaded once on first use.
+///
+/// Useful for serving many concurrent requests in different locales from a single instance:
+/// ```
+/// Localize localize = Localize.of();
+/// localize.addBundleProvider(locale -> ResourceBundle.getBundle("messages", locale));
+/// ...
+/// // Per request
+/// LocalizeView view = localize.forLocale(request.getLocale());
+/// String greeting = view.get("MyApp.greet")
+///                       .arg("name", user.getName())
+///                       .value();
+/// ```
+///
+/// Views are **thread-safe** and reflect any provider changes or refreshes of their origin.
+///
+/// @see Localize#forLocale(Locale)
+/// @since 1.4
+public final class LocalizeView {
+    private final Localize localize;
+    private final Locale locale;
+    private final LocalizationValueBuilder.Applier applier;
+
+    LocalizeView(Localize localize, Locale locale) {
+        this.localize = localize;
+        this.locale = locale;
+        this.applier = localize.getApplier(locale);
+    }
+
+    /// {@return The locale of this view}
+    public Locale getLocale() {
+        return locale;
+    }
+
+    /// {@return The [Localize] instance this view originates from}
+    public Localize getLocalize() {
+        return localize;
+    }
+
+    /// Returns a builder instance to get a formatted localized string in the locale of this view.
+    ///
+    /// @param key Key associated with the resource value to retrieve.
+    /// @return    **Non-thread-safe** builder instance to format the requested value.
+    /// @throws NullPointerException If `key` is `null`.
+    /// @see Localize#get(String)
+    public LocalizationValueBuilder<?> get(String key) {
+        return new LocalizationValueBuilder<>(key, applier);
+    }
+
+    /// Equivalent to [#get(String)].
+    ///
+    /// @param key Key associated with the resource value to retrieve.
+    /// @return    **Non-thread-safe** builder instance to format the requested value.
+    /// @throws NullPointerException If `key` is `null`.
+    public LocalizationValueBuilder<?> get(LocalizationKey key) {
+        return get(key.getKey());
+    }
+
+    /// Retrieves the value associated with a resource bundle key in the locale of this view.
+    ///
+    /// @param key Key associated with the resource value to retrieve.
+    /// @return    Resource bundle value or an empty string if not found.
+    /// @throws NullPointerException If `key` is `null`.
+    /// @see Localize#getValue(String)
+    public String getValue(String key) {
+        return get(key).value();
+    }
+
+    /// Equivalent to [#getValue(String)].
+    ///
+    /// @param key Key associated with the resource value to retrieve.
+    /// @return    Resource bundle value or an empty string if not found.
+    /// @throws NullPointerException If `key` is `null`.
+    public String getValue(LocalizationKey key) {
+        return getValue(key.getKey());
+    }
+
+    /// Retrieves all keys starting with the given prefix across all providers in the locale of this view.
+    ///
+    /// @param prefix Prefix of keys, where an empty prefix matches all keys.
+    /// @return       Immutable list of matching keys, sorted and distinct.
+    /// @throws NullPointerException If `prefix` is `null`.
+    /// @see Localize#getKeys(String)
+    public List<String> getKeys(String prefix) {
+        Objects.requireNonNull(prefix, "prefix must not be null");
+        return KeyIndex.getKeys(localize.getSnapshot(locale).getBundles(), prefix);
+    }
+
+    /// Returns all resource bundles of this view, loading them if not done so already.
+    ///
+    /// @return Immutable snapshot of all resource bundles at the time of calling.
+    public Collection<ResourceBundle> getResourceBundles() {
+        return localize.getSnapshot(locale).getBundles();
+    }
+
+    @Override public String toString() {
+        return "LocalizeView[locale=" + locale + "]";
+    }
+}
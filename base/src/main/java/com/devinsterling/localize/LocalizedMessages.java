@@ -0,0 +1,47 @@
+package com.devinsterling.localize;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/// Generates an accessor class with a typed method for each key of a resource bundle.
+///
+/// Requires the optional `localize-processor` annotation processor, which reads the
+/// root `.properties` file of the given bundle at compile time. Each generated method
+/// takes the arguments of its pattern in order of first appearance, and formats through
+/// a [PreparedMessage], so key typos and argument name mistakes fail at compile time:
+/// ```
+/// // messages.properties:
+/// // MyApp.clickMessage = {name} clicked this button {click_count, plural, =1{# time} other{# times}}!
+/// @LocalizedMessages(bundle = "messages")
+/// interface AppText {}
+/// ...
+/// AppTextMessages text = new AppTextMessages(localize);
+/// text.clickMessage("Snowball", 3); // "Snowball clicked this button 3 times!"
+/// ```
+///
+/// Method names are the last segment of each key in camel case (e.g., `MyApp.clickMessage` → `clickMessage`),
+/// unless ambiguous, in which case the whole key is used (e.g., `myAppClickMessage`).
+/// Arguments of `plural`, `selectordinal`, `number`, and `choice` types are [Number], so `long` values keep
+/// their precision, and those of the `select` type are [String]. All others, including arguments without a type,
+/// are [Object], so numbers passed to them are still formatted by locale (e.g., grouped as `1,234`).
+///
+/// @since 1.4
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface LocalizedMessages {
+    /// Base name of the resource bundle, as passed to [java.util.ResourceBundle#getBundle(String)]
+    /// (e.g., `"i18n.messages"` for `i18n/messages.properties`).
+    ///
+    /// @return The base name of the resource bundle.
+    String bundle();
+
+    /// Simple name of the generated class in the package of the annotated type.
+    /// Defaults to the simple name of the annotated type followed by `Messages`.
+    ///
+    /// @return The simple name of the generated class.
+    String className() default "";
+}
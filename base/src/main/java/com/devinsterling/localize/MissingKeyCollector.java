@@ -0,0 +1,138 @@
+package com.devinsterling.localize;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/// Collects keys without a value by locale, counting how often each was requested.
+///
+/// Misses are recorded without throwing, regardless of [LocalizeConfig#isThrowWhenNoValueFound()],
+/// including those of requests with a default value. Recording a key missed before only costs
+/// two map lookups and a counter increment, allocating nothing.
+///
+/// ```
+/// MissingKeyCollector collector = new MissingKeyCollector(1000);
+/// localize.setMissingKeyCollector(collector);
+///
+/// // Later, e.g., periodically or from an admin endpoint
+/// for (MissingKeyCollector.MissingKey missing : collector.getMissingKeys()) {
+///     log.warn(missing.key() + " is missing for " + missing.locale() + " (" + missing.count() + " times)");
+/// }
+/// ```
+///
+/// At most the given number of distinct keys and locales are kept, so unbounded key spaces
+/// (e.g., generated keys) cannot exhaust the heap. Misses of further keys are only counted,
+/// see [#getDroppedCount()]. Collectors are **thread-safe** and may be shared by several instances.
+///
+/// @see Localize#setMissingKeyCollector(MissingKeyCollector)
+/// @since 1.4
+public final class MissingKeyCollector {
+    private final Map<Locale, Map<String, LongAdder>> counts = new ConcurrentHashMap<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final LongAdder dropped = new LongAdder();
+    private final int capacity;
+
+    /// @param capacity Maximum number of distinct keys and locales to keep.
+    /// @throws IllegalArgumentException If `capacity` is not positive.
+    public MissingKeyCollector(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+    }
+
+    /// Records a request of a key without a value.
+    ///
+    /// @param key    Key without a value.
+    /// @param locale Locale of the bundles searched.
+    /// @throws NullPointerException If `key` or `locale` is `null`.
+    public void record(String key, Locale locale) {
+        Objects.requireNonNull(key, "key must not be null");
+        Map<String, LongAdder> keys = counts.get(Objects.requireNonNull(locale, "locale must not be null"));
+        LongAdder count = keys == null ? null : keys.get(key);
+
+        if (count == null) {
+            count = getOrReserve(key, locale);
+            if (count == null) {
+                dropped.increment();
+                return;
+            }
+        }
+        count.increment();
+    }
+
+    /// {@return The counter of a new key, or `null` if the capacity is reached}
+    private LongAdder getOrReserve(String key, Locale locale) {
+        Map<String, LongAdder> keys = counts.computeIfAbsent(locale, l -> new ConcurrentHashMap<>());
+        LongAdder count = keys.get(key);
+        if (count != null) return count;
+
+        // Reserved before insertion, so concurrent insertions never exceed the capacity
+        if (size.incrementAndGet() > capacity) {
+            size.decrementAndGet();
+            return null;
+        }
+
+        LongAdder created = new LongAdder();
+        count = keys.putIfAbsent(key, created);
+        if (count != null) {
+            size.decrementAndGet();
+            return count;
+        }
+        return created;
+    }
+
+    /// Retrieves all recorded keys, most frequently missed first.
+    ///
+    /// Counts of concurrent misses may or may not be included.
+    ///
+    /// @return Immutable list of all recorded keys at the time of retrieval.
+    public List<MissingKey> getMissingKeys() {
+        List<MissingKey> missingKeys = new ArrayList<>(size.get());
+
+        counts.forEach((locale, keys) -> keys.forEach(
+            (key, count) -> missingKeys.add(new MissingKey(key, locale, count.sum()))
+        ));
+        missingKeys.sort(Comparator.comparingLong(MissingKey::count).reversed()
+                                   .thenComparing(MissingKey::key)
+                                   .thenComparing(missing -> missing.locale().toLanguageTag()));
+        return List.copyOf(missingKeys);
+    }
+
+    /// {@return The number of distinct keys and locales recorded}
+    public int size() {
+        return size.get();
+    }
+
+    /// {@return The maximum number of distinct keys and locales to keep}
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /// {@return The number of misses not recorded, as the capacity was reached}
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /// Removes all recorded keys and resets all counts.
+    ///
+    /// Misses recorded concurrently may be lost.
+    public void clear() {
+        counts.clear();
+        size.set(0);
+        dropped.reset();
+    }
+
+    /// A key without a value in a locale.
+    ///
+    /// @param key    Key without a value.
+    /// @param locale Locale of the bundles searched.
+    /// @param count  Number of requests of the key in the locale.
+    public record MissingKey(String key, Locale locale, long count) {}
+}
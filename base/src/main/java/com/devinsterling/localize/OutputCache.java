@@ -0,0 +1,157 @@
+package com.devinsterling.localize;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TimeZone;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+/// Bounded cache of formatted values, keyed by snapshot version, processor, default format locale,
+/// default time zone, key, default value, and arguments.
+///
+/// Split into independently locked stripes, each evicting its least recently used value.
+///
+/// @see LocalizeConfig#setOutputCacheSize(int)
+final class OutputCache {
+    /// Argument types that cannot change after being cached.
+    private static final Set<Class<?>> IMMUTABLE_TYPES = Set.of(
+        String.class, Boolean.class, Character.class,
+        Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class,
+        BigInteger.class, BigDecimal.class, Locale.class, UUID.class
+    );
+    private static final int MAX_STRIPES = 64;
+
+    private final Stripe[] stripes;
+    private final int capacity;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /// @param capacity Maximum number of cached values, must be positive.
+    OutputCache(int capacity) {
+        // Power of two to select stripes by masking, while keeping at least ~16 values per stripe
+        int stripeCount = Integer.highestOneBit(Math.max(1, Math.min(MAX_STRIPES, capacity / 16)));
+        int stripeCapacity = Math.max(1, capacity / stripeCount);
+
+        this.capacity = capacity;
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe(stripeCapacity);
+        }
+    }
+
+    /// {@return The maximum number of cached values}
+    int getCapacity() {
+        return capacity;
+    }
+
+    /// @return `true` if the formatted value of the given request only depends on immutable state.
+    static boolean isCacheable(LocalizationRequest request) {
+        for (Object argument : request.getArguments().values()) {
+            if (argument != null && !IMMUTABLE_TYPES.contains(argument.getClass()) && !(argument instanceof Enum)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /// Creates the key of a request, capturing the current default format locale and time zone,
+    /// as values formatted with other defaults would differ.
+    ///
+    /// @param version   Version of the snapshot the value is resolved from.
+    /// @param processor Processor the value is resolved with.
+    /// @return          Key to look up, or put, the value of the request.
+    static Key createKey(long version, LocalizationRequestProcessor processor, LocalizationRequest request) {
+        return new Key(
+            version, processor, Locale.getDefault(Locale.Category.FORMAT), TimeZone.getDefault().getID(),
+            request.getKey(), request.getDefaultValue(), request.getArguments()
+        );
+    }
+
+    /// @return The cached value, or `null` if not cached.
+    String get(Key key) {
+        Stripe stripe = getStripe(key);
+        String value;
+
+        synchronized (stripe) {
+            value = stripe.get(key);
+        }
+
+        if (value == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return value;
+    }
+
+    void put(Key key, String value) {
+        // Copied to prevent later modifications from affecting the key
+        Key copy = new Key(
+            key.version(), key.processor(), key.locale(), key.timeZoneId(),
+            key.key(), key.defaultValue(), new HashMap<>(key.arguments())
+        );
+        Stripe stripe = getStripe(copy);
+
+        synchronized (stripe) {
+            stripe.put(copy, value);
+        }
+    }
+
+    /// Removes all cached values.
+    void clear() {
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                stripe.clear();
+            }
+        }
+    }
+
+    CacheStatistics getStatistics() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return new CacheStatistics(hits.sum(), misses.sum(), evictions.sum(), size);
+    }
+
+    private Stripe getStripe(Key key) {
+        int hash = key.hashCode();
+        // Spread higher bits, as `HashMap` does
+        return stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+    }
+
+    /// @param processor Compared by identity unless it overrides `equals`, so values of a replaced processor
+    ///                  are never served, even if put by lookups still running with it.
+    record Key(long version,
+               LocalizationRequestProcessor processor,
+               Locale locale,
+               String timeZoneId,
+               String key,
+               String defaultValue,
+               Map<String, Object> arguments) {}
+
+    private final class Stripe extends LinkedHashMap<Key, String> {
+        private final int capacity;
+
+        private Stripe(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override protected boolean removeEldestEntry(Map.Entry<Key, String> eldest) {
+            boolean isEvicted = size() > capacity;
+            if (isEvicted) {
+                evictions.increment();
+            }
+            return isEvicted;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.devinsterling.localize;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/// Immutable arguments map backed by arrays of names and values in the same order.
+///
+/// Avoids building and hashing a map on each request of a [PreparedMessage],
+/// where lookups by name use the index shared between all requests of the same message.
+final class PositionalArguments extends AbstractMap<String, Object> {
+    private final String[] names;
+    private final Map<String, Integer> indexes;
+    private final Object[] values;
+    private Set<Entry<String, Object>> entrySet;
+
+    /// @param names   Distinct argument names.
+    /// @param indexes Index of each name in `names`.
+    /// @param values  Values in the order of `names`, which must not be modified afterward.
+    PositionalArguments(String[] names, Map<String, Integer> indexes, Object[] values) {
+        this.names = names;
+        this.indexes = indexes;
+        this.values = values;
+    }
+
+    @Override public int size() {
+        return names.length;
+    }
+
+    @Override public boolean containsKey(Object key) {
+        return indexes.containsKey(key);
+    }
+
+    @Override public Object get(Object key) {
+        Integer index = indexes.get(key);
+        return index == null ? null : values[index];
+    }
+
+    @Override public Set<Entry<String, Object>> entrySet() {
+        Set<Entry<String, Object>> entrySet = this.entrySet;
+
+        if (entrySet == null) {
+            this.entrySet = entrySet = new AbstractSet<>() {
+                @Override public Iterator<Entry<String, Object>> iterator() {
+                    return new Iterator<>() {
+                        private int index;
+
+                        @Override public boolean hasNext() {
+                            return index < names.length;
+                        }
+
+                        @Override public Entry<String, Object> next() {
+                            if (!hasNext()) throw new NoSuchElementException();
+
+                            Entry<String, Object> entry = new SimpleImmutableEntry<>(names[index], values[index]);
+                            index++;
+                            return entry;
+                        }
+                    };
+                }
+
+                @Override public int size() {
+                    return names.length;
+                }
+            };
+        }
+        return entrySet;
+    }
+
+    @Override public String toString() {
+        StringBuilder builder = new StringBuilder("{");
+        for (int i = 0; i < names.length; i++) {
+            if (i > 0) builder.append(", ");
+            builder.append(names[i]).append('=').append(values[i]);
+        }
+        return builder.append('}').toString();
+    }
+}
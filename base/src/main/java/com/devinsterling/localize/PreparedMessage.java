@@ -0,0 +1,78 @@
+package com.devinsterling.localize;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/// A message with its key and argument names resolved once, to be formatted with positional values.
+///
+/// Formatting requires neither a builder nor an argument map per call, and
+/// goes through the same providers, processor, and configuration as [Localize#get(String)].
+/// Messages are typically prepared once and reused, such as by accessors generated from
+/// [LocalizedMessages]:
+/// ```
+/// PreparedMessage clickMessage = localize.prepare("MyApp.clickMessage", "name", "click_count");
+/// ...
+/// clickMessage.format("Snowball", 3); // "Snowball clicked this button 3 times!"
+/// ```
+///
+/// Prepared messages are **thread-safe** and reflect all locale and provider changes.
+///
+/// @see Localize#prepare(String, String...)
+/// @since 1.4
+public final class PreparedMessage {
+    private final String key;
+    private final LocalizationValueBuilder.Applier applier;
+    private final String[] names;
+    private final Map<String, Integer> indexes;
+
+    PreparedMessage(String key, LocalizationValueBuilder.Applier applier, String[] names) {
+        Map<String, Integer> indexes = new HashMap<>();
+
+        for (int i = 0; i < names.length; i++) {
+            if (indexes.put(Objects.requireNonNull(names[i], "argument names must not be null"), i) != null) {
+                throw new IllegalArgumentException("Duplicate argument name: " + names[i]);
+            }
+        }
+
+        this.key = Objects.requireNonNull(key, "key must not be null");
+        this.applier = applier;
+        this.names = names.clone();
+        this.indexes = Map.copyOf(indexes);
+    }
+
+    /// {@return The key of this message}
+    public String getKey() {
+        return key;
+    }
+
+    /// {@return Immutable list of argument names in the order of their values}
+    public List<String> getArgumentNames() {
+        return List.of(names);
+    }
+
+    /// Formats this message with the given values in the order of [#getArgumentNames()].
+    ///
+    /// @param values Argument values.
+    /// @return       The formatted localized value.
+    /// @throws IllegalArgumentException If the number of values does not match the number of argument names.
+    public String format(Object... values) {
+        if (values.length != names.length) {
+            throw new IllegalArgumentException(
+                "Expected " + names.length + " argument(s) for " + key + ", but got " + values.length
+            );
+        }
+
+        // Values are copied, as callers may modify the given array afterward
+        Map<String, Object> arguments = names.length == 0
+                                        ? Map.of()
+                                        : new PositionalArguments(names, indexes, values.clone());
+
+        return applier.evaluate(LocalizationRequest.Builder.of(key).arguments(arguments).build());
+    }
+
+    @Override public String toString() {
+        return "PreparedMessage[key=" + key + ", arguments=" + List.of(names) + "]";
+    }
+}
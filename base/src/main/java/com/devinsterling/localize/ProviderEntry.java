@@ -0,0 +1,145 @@
+package com.devinsterling.localize;
+
+import java.util.Objects;
+import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/// Immutable container of a provider and the resource bundle it last produced.
+///
+/// Each load produces a new entry with a higher generation,
+/// which allows stale loads to be discarded.
+///
+/// Loads may be deferred until the bundle is first retrieved, in which case
+/// the bundle is loaded once and memoized.
+final class ProviderEntry {
+    private final String key;
+    private final ResourceBundleProvider provider;
+    private final Set<String> prefixes;
+    private final long generation;
+    // Written prior to clearing `loader`, so is visible once `loader` is observed as `null`
+    private ResourceBundle bundle;
+    private volatile Supplier<ResourceBundle> loader;
+    private volatile KeyFilter keyFilter;
+
+    /// Creates an entry container instance without a loaded bundle.
+    ///
+    /// @param key      Identifier of this entry instance to construct.
+    /// @param provider Provider to fetch new resource bundles on refresh.
+    ProviderEntry(String key, ResourceBundleProvider provider) {
+        this(key, provider, Set.of());
+    }
+
+    /// Creates an entry container instance without a loaded bundle, only consulted for keys of the given prefixes.
+    ///
+    /// @param key      Identifier of this entry instance to construct.
+    /// @param provider Provider to fetch new resource bundles on refresh.
+    /// @param prefixes Key prefixes routed to this entry, or empty if consulted for all keys.
+    ProviderEntry(String key, ResourceBundleProvider provider, Set<String> prefixes) {
+        this(
+            Objects.requireNonNull(key, "key must not be null"),
+            Objects.requireNonNull(provider, "provider must not be null"),
+            Set.copyOf(Objects.requireNonNull(prefixes, "prefixes must not be null")),
+            null,
+            null,
+            0
+        );
+    }
+
+    private ProviderEntry(String key,
+                          ResourceBundleProvider provider,
+                          Set<String> prefixes,
+                          ResourceBundle bundle,
+                          Supplier<ResourceBundle> loader,
+                          long generation) {
+        this.key = key;
+        this.provider = provider;
+        this.prefixes = prefixes;
+        this.bundle = bundle;
+        this.loader = loader;
+        this.generation = generation;
+    }
+
+    /// {@return The entry identifier}
+    String getKey() {
+        return key;
+    }
+
+    /// {@return Provider instance}
+    ResourceBundleProvider getProvider() {
+        return provider;
+    }
+
+    /// {@return Immutable key prefixes routed to this entry, or an empty set if consulted for all keys}
+    Set<String> getPrefixes() {
+        return prefixes;
+    }
+
+    /// May be `null` if not loaded yet, or if [LocalizeConfig#isIgnoreMissingResourceBundles()]
+    /// is set to `true` and the most recent fetch failed.
+    ///
+    /// Deferred loads are performed on first call, where concurrent calls wait for a single load.
+    /// If the load fails, it is attempted again on the next call.
+    ///
+    /// @return Fetched resource bundle.
+    ResourceBundle getBundle() {
+        if (loader != null) {
+            synchronized (this) {
+                Supplier<ResourceBundle> loader = this.loader;
+
+                if (loader != null) {
+                    bundle = loader.get();
+                    this.loader = null;
+                }
+            }
+        }
+        return bundle;
+    }
+
+    /// Retrieves the key filter of the bundle, built on first call.
+    ///
+    /// @return Filter of the keys of the bundle, or `null` if no bundle was loaded.
+    KeyFilter getKeyFilter() {
+        KeyFilter filter = keyFilter;
+        if (filter != null) return filter;
+
+        ResourceBundle bundle = getBundle();
+        if (bundle == null) return null;
+
+        synchronized (this) {
+            if ((filter = keyFilter) == null) {
+                keyFilter = filter = KeyFilter.of(bundle);
+            }
+        }
+        return filter;
+    }
+
+    /// {@return The filter of the keys of the bundle if built, otherwise `null`}
+    KeyFilter getBuiltKeyFilter() {
+        return keyFilter;
+    }
+
+    /// {@return The generation of the load which produced the bundle, or `0` if never loaded}
+    long getGeneration() {
+        return generation;
+    }
+
+    /// @param bundle     Loaded bundle.
+    /// @param generation Generation of the load, which must increase with each load.
+    /// @return           A copy of this entry with the given bundle.
+    ProviderEntry withBundle(ResourceBundle bundle, long generation) {
+        return new ProviderEntry(key, provider, prefixes, bundle, null, generation);
+    }
+
+    /// @param loader     Loads the bundle once first retrieved.
+    /// @param generation Generation of the load, which must increase with each load.
+    /// @return           A copy of this entry with a deferred load of its bundle.
+    ProviderEntry withLoader(Supplier<ResourceBundle> loader, long generation) {
+        return new ProviderEntry(key, provider, prefixes, null, loader, generation);
+    }
+
+    /// {@return `true` if both entries originate from the same registration}
+    boolean isSameProvider(ProviderEntry entry) {
+        return key.equals(entry.key) && provider == entry.provider && prefixes.equals(entry.prefixes);
+    }
+}
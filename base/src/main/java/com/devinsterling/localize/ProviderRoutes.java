@@ -0,0 +1,112 @@
+package com.devinsterling.localize;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/// Immutable routes of keys to the providers registered with a matching key prefix.
+///
+/// Prefixes are stored in a character trie, where each node ending a prefix holds the entries
+/// to search for keys starting with it: the routed entries of that prefix and all shorter ones
+/// in order of priority, followed by all unrouted entries. Routing a key therefore walks at most
+/// its length and allocates nothing.
+final class ProviderRoutes {
+    private final Node root;
+
+    private ProviderRoutes(Node root) {
+        this.root = root;
+    }
+
+    /// @param entries Entries in order of priority.
+    /// @return        The routes of the given entries, or `null` if no entry has prefixes.
+    static ProviderRoutes of(List<ProviderEntry> entries) {
+        List<ProviderEntry> unrouted = new ArrayList<>(entries.size());
+        NodeBuilder root = new NodeBuilder();
+
+        for (int i = 0; i < entries.size(); i++) {
+            ProviderEntry entry = entries.get(i);
+            if (entry.getPrefixes().isEmpty()) {
+                unrouted.add(entry);
+                continue;
+            }
+
+            for (String prefix : entry.getPrefixes()) {
+                NodeBuilder node = root;
+                for (int j = 0; j < prefix.length(); j++) {
+                    node = node.children.computeIfAbsent(prefix.charAt(j), c -> new NodeBuilder());
+                }
+                node.routed.set(i);
+            }
+        }
+
+        if (unrouted.size() == entries.size()) return null;
+        return new ProviderRoutes(root.build(entries, List.copyOf(unrouted), null));
+    }
+
+    /// @param key Key to route.
+    /// @return    Entries to search for the key in order, being the unrouted entries if no prefix matches.
+    List<ProviderEntry> getEntries(String key) {
+        Node node = root;
+        List<ProviderEntry> entries = root.entries;
+
+        for (int i = 0; i < key.length() && (node = node.getChild(key.charAt(i))) != null; i++) {
+            if (node.entries != null) {
+                entries = node.entries;
+            }
+        }
+        return entries;
+    }
+
+    private static final class Node {
+        private final char[] labels;
+        private final Node[] children;
+        /// Entries of the longest prefix ending here, or `null` if no prefix ends here.
+        private final List<ProviderEntry> entries;
+
+        private Node(char[] labels, Node[] children, List<ProviderEntry> entries) {
+            this.labels = labels;
+            this.children = children;
+            this.entries = entries;
+        }
+
+        private Node getChild(char label) {
+            int index = Arrays.binarySearch(labels, label);
+            return index < 0 ? null : children[index];
+        }
+    }
+
+    private static final class NodeBuilder {
+        private final Map<Character, NodeBuilder> children = new TreeMap<>();
+        /// Indexes of the entries with a prefix ending here.
+        private final BitSet routed = new BitSet();
+
+        /// @param inherited Indexes of the entries with a prefix ending at any ancestor, or `null` for the root.
+        private Node build(List<ProviderEntry> entries, List<ProviderEntry> unrouted, BitSet inherited) {
+            List<ProviderEntry> nodeEntries = null;
+            BitSet matched = inherited;
+
+            // The root always holds entries, being those of keys without a matching prefix
+            if (!routed.isEmpty() || inherited == null) {
+                matched = inherited == null ? new BitSet() : (BitSet) inherited.clone();
+                matched.or(routed);
+
+                List<ProviderEntry> list = new ArrayList<>(matched.cardinality() + unrouted.size());
+                matched.stream().forEach(i -> list.add(entries.get(i)));
+                list.addAll(unrouted);
+                nodeEntries = List.copyOf(list);
+            }
+
+            char[] labels = new char[children.size()];
+            Node[] nodes = new Node[children.size()];
+            int i = 0;
+            for (Map.Entry<Character, NodeBuilder> child : children.entrySet()) {
+                labels[i] = child.getKey();
+                nodes[i++] = child.getValue().build(entries, unrouted, matched);
+            }
+            return new Node(labels, nodes, nodeEntries);
+        }
+    }
+}
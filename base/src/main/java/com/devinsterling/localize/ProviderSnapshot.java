@@ -0,0 +1,173 @@
+package com.devinsterling.localize;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Map;
+import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/// Immutable snapshot of all providers, in order of priority,
+/// along with the locale their bundles were loaded for.
+///
+/// Snapshots are published as a whole, so readers always observe
+/// bundles from a single consistent state.
+final class ProviderSnapshot {
+    // Declared first, as it must be initialized before `EMPTY`
+    private static final AtomicLong versions = new AtomicLong();
+    /// Initial snapshot, where no bundles were loaded yet.
+    static final ProviderSnapshot EMPTY = new ProviderSnapshot(null, List.of());
+    /// Owner of keys which no entry contains.
+    static final ProviderEntry NO_OWNER = new ProviderEntry("", locale -> null);
+
+    private final long version = versions.incrementAndGet();
+    private final Locale locale;
+    // Uses a list instead of Map as the number of providers is typically small (1~15).
+    // Reads/iteration are **far greater** than writes
+    private final List<ProviderEntry> entries;
+    /// Routes of keys to entries registered with prefixes, or `null` if there are none.
+    private final ProviderRoutes routes;
+    /// Values encoded in UTF-8 by key, created on first use.
+    private volatile EncodedValues encodedValues;
+    /// Entries containing each key, created on first use.
+    private volatile Map<String, ProviderEntry> keyOwners;
+
+    ProviderSnapshot(Locale locale, List<ProviderEntry> entries) {
+        this.locale = locale;
+        this.entries = List.copyOf(entries);
+        this.routes = ProviderRoutes.of(this.entries);
+    }
+
+    /// {@return A unique version of this snapshot, which may identify its bundles without retaining them}
+    long getVersion() {
+        return version;
+    }
+
+    /// {@return The locale of all bundles, or `null` if no bundles were loaded yet}
+    Locale getLocale() {
+        return locale;
+    }
+
+    /// {@return Immutable entries in order of priority}
+    List<ProviderEntry> getEntries() {
+        return entries;
+    }
+
+    /// Retrieves the entries to search for the given key, being the entries routed to
+    /// any prefix of the key, followed by all entries registered without prefixes.
+    ///
+    /// @param key Key to search for.
+    /// @return    Immutable entries to search in order of priority.
+    List<ProviderEntry> getEntries(String key) {
+        return routes == null ? entries : routes.getEntries(key);
+    }
+
+    /// {@return Immutable list of all loaded bundles in order of priority}
+    Collection<ResourceBundle> getBundles() {
+        return entries.stream()
+                      .map(ProviderEntry::getBundle)
+                      .filter(Objects::nonNull)
+                      .toList();
+    }
+
+    /// Retrieves the values of argument-less requests encoded in UTF-8 by key,
+    /// which are discarded along with this snapshot.
+    ///
+    /// @param processor Processor the values are produced by, where values of any other processor are discarded.
+    /// @return          Modifiable concurrent map of encoded values by key.
+    Map<String, byte[]> getEncodedValues(LocalizationRequestProcessor processor) {
+        EncodedValues values = encodedValues;
+
+        if (values == null || values.processor() != processor) {
+            encodedValues = values = new EncodedValues(processor, new ConcurrentHashMap<>());
+        }
+        return values.values();
+    }
+
+    /// Retrieves the entry containing each key before all entries of lower priority, or [#NO_OWNER]
+    /// if no entry contains it, which are discarded along with this snapshot.
+    ///
+    /// @return Modifiable concurrent map of entries by key.
+    Map<String, ProviderEntry> getKeyOwners() {
+        Map<String, ProviderEntry> owners = keyOwners;
+
+        if (owners == null) {
+            keyOwners = owners = new ConcurrentHashMap<>();
+        }
+        return owners;
+    }
+
+    /// @return The entry associated with the given key, or `null` if not found.
+    ProviderEntry get(String key) {
+        for (ProviderEntry entry : entries) {
+            if (entry.getKey().equals(key)) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    /// {@return `true` if both snapshots contain entries of the same registrations in the same order}
+    boolean hasSameProviders(ProviderSnapshot snapshot) {
+        if (entries.size() != snapshot.entries.size()) return false;
+
+        for (int i = 0; i < entries.size(); i++) {
+            if (!entries.get(i).isSameProvider(snapshot.entries.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /// {@return A copy of this snapshot with the given locale}
+    ProviderSnapshot withLocale(Locale locale) {
+        return locale.equals(this.locale) ? this : new ProviderSnapshot(locale, entries);
+    }
+
+    /// Inserts the given entry, replacing the entry with the same key while keeping its priority.
+    ///
+    /// @return A copy of this snapshot with the given entry.
+    ProviderSnapshot put(ProviderEntry newEntry) {
+        List<ProviderEntry> newEntries = new ArrayList<>(entries);
+
+        for (int i = 0; i < newEntries.size(); i++) {
+            if (newEntries.get(i).getKey().equals(newEntry.getKey())) {
+                newEntries.set(i, newEntry);
+                return new ProviderSnapshot(locale, newEntries);
+            }
+        }
+
+        newEntries.add(newEntry);
+        return new ProviderSnapshot(locale, newEntries);
+    }
+
+    /// Replaces the entry from the same registration if the given entry was loaded more recently.
+    ///
+    /// @return A copy of this snapshot with the given entry, or this snapshot if nothing was replaced.
+    ProviderSnapshot replace(ProviderEntry newEntry) {
+        for (int i = 0; i < entries.size(); i++) {
+            ProviderEntry entry = entries.get(i);
+
+            if (entry.isSameProvider(newEntry) && entry.getGeneration() < newEntry.getGeneration()) {
+                List<ProviderEntry> newEntries = new ArrayList<>(entries);
+                newEntries.set(i, newEntry);
+                return new ProviderSnapshot(locale, newEntries);
+            }
+        }
+        return this;
+    }
+
+    /// @return A copy of this snapshot without the entry associated with the given key,
+    ///         or this snapshot if not found.
+    ProviderSnapshot remove(String key) {
+        List<ProviderEntry> newEntries = new ArrayList<>(entries);
+        return newEntries.removeIf(entry -> entry.getKey().equals(key))
+               ? new ProviderSnapshot(locale, newEntries)
+               : this;
+    }
+
+    private record EncodedValues(LocalizationRequestProcessor processor, Map<String, byte[]> values) {}
+}
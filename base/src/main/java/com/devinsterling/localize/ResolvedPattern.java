@@ -0,0 +1,31 @@
+package com.devinsterling.localize;
+
+import java.util.Objects;
+import java.util.ResourceBundle;
+
+/// A pattern resolved from a resource bundle, prior to formatting.
+///
+/// Patterns resolved from the same bundle are typically the same string instance,
+/// so stages of a [LocalizationPipeline] may use them to identify work done prior
+/// (e.g., caching a compiled formatter per pattern).
+///
+/// @param key     Key the pattern was resolved by.
+/// @param pattern Unformatted pattern.
+/// @param bundle  Bundle the pattern originates from.
+/// @see LocalizationPipeline
+/// @since 1.4
+public record ResolvedPattern(String key, String pattern, ResourceBundle bundle) {
+    /// @throws NullPointerException If any component is `null`.
+    public ResolvedPattern {
+        Objects.requireNonNull(key, "key must not be null");
+        Objects.requireNonNull(pattern, "pattern must not be null");
+        Objects.requireNonNull(bundle, "bundle must not be null");
+    }
+
+    /// {@return A copy of this resolved pattern with the given pattern, keeping its origin}
+    /// @param pattern Replacement pattern.
+    /// @throws NullPointerException If `pattern` is `null`.
+    public ResolvedPattern withPattern(String pattern) {
+        return new ResolvedPattern(key, pattern, bundle);
+    }
+}
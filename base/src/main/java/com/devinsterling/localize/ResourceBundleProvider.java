@@ -1,7 +1,9 @@
 package com.devinsterling.localize;
 
 import java.util.Locale;
+import java.util.Objects;
 import java.util.ResourceBundle;
+import java.util.function.Function;
 
 /// Provider that produces a [ResourceBundle] on demand with a given [Locale].
 ///
@@ -14,4 +16,48 @@ public interface ResourceBundleProvider {
     /// @param locale Locale for the produced resource bundle to be based upon.
     /// @return       The produced resource bundle.
     ResourceBundle getBundle(Locale locale);
+
+    /// Identifies the current contents of the bundle of the given locale, such as from the version
+    /// or modification times of its sources, which must change whenever the bundle would change.
+    /// Fingerprints should be cheap to compute, as they are computed upon each load.
+    ///
+    /// Providers without a fingerprint are always loaded, even when
+    /// [LocalizeConfig#setSnapshotDirectory(java.nio.file.Path)] is set.
+    ///
+    /// @param locale Locale of the bundle.
+    /// @return       The fingerprint of the bundle, or `null` if unknown.
+    /// @since 1.4
+    default String getFingerprint(Locale locale) {
+        return null;
+    }
+
+    /// Creates a provider with fingerprints of its bundles, such as:
+    /// ```
+    /// localize.putBundleProvider("app", ResourceBundleProvider.withFingerprint(
+    ///     locale -> ResourceBundle.getBundle("i18n.sample", locale),
+    ///     locale -> APP_VERSION
+    /// ));
+    /// ```
+    ///
+    /// @param provider    Provider of the bundles.
+    /// @param fingerprint Computes the fingerprint of the bundle of a locale, returning `null` if unknown.
+    /// @return            A new provider of the bundles of `provider`, with fingerprints of `fingerprint`.
+    /// @throws NullPointerException If `provider` or `fingerprint` is `null`.
+    /// @see #getFingerprint(Locale)
+    /// @since 1.4
+    static ResourceBundleProvider withFingerprint(ResourceBundleProvider provider,
+                                                  Function<Locale, String> fingerprint) {
+        Objects.requireNonNull(provider, "provider must not be null");
+        Objects.requireNonNull(fingerprint, "fingerprint must not be null");
+
+        return new ResourceBundleProvider() {
+            @Override public ResourceBundle getBundle(Locale locale) {
+                return provider.getBundle(locale);
+            }
+
+            @Override public String getFingerprint(Locale locale) {
+                return fingerprint.apply(locale);
+            }
+        };
+    }
 }
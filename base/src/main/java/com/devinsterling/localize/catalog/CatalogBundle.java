@@ -0,0 +1,189 @@
+package com.devinsterling.localize.catalog;
+
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/// Bundle of a single locale of a catalog, looking up only its own values,
+/// where [ResourceBundle#getObject(String)] continues with the parent bundles.
+final class CatalogBundle extends ResourceBundle {
+    private static final ResourceBundle.Control CONTROL =
+            ResourceBundle.Control.getNoFallbackControl(ResourceBundle.Control.FORMAT_DEFAULT);
+
+    private final String baseName;
+    private final CatalogStorage storage;
+    private final int ordinal;
+    private final Locale locale;
+    private final Set<String> keySet = new KeySet();
+
+    private CatalogBundle(String baseName, CatalogStorage storage, int ordinal, Locale locale) {
+        this.baseName = baseName;
+        this.storage = storage;
+        this.ordinal = ordinal;
+        this.locale = locale;
+    }
+
+    /// Loads the bundles of the given locales with [ResourceBundle#getBundle] into the given entries,
+    /// where locales without their own bundle are skipped.
+    static void load(CatalogEntries entries, String baseName, List<Locale> locales) {
+        for (Locale locale : locales) {
+            ResourceBundle bundle;
+            try {
+                bundle = ResourceBundle.getBundle(baseName, locale, CONTROL);
+            } catch (MissingResourceException e) {
+                continue;
+            }
+
+            // Candidates without their own bundle resolve to a parent bundle
+            if (bundle.getLocale().equals(locale)) {
+                entries.put(locale, bundle);
+            }
+        }
+    }
+
+    @Override protected Object handleGetObject(String key) {
+        int keyIndex = storage.indexOf(key);
+        return keyIndex < 0 ? null : storage.getValue(ordinal, keyIndex);
+    }
+
+    /// Avoids [ResourceBundle#containsKey(String)] building a key set of each bundle.
+    @Override public boolean containsKey(String key) {
+        Objects.requireNonNull(key, "key must not be null");
+        return keySet.contains(key) || (parent != null && parent.containsKey(key));
+    }
+
+    @Override public Enumeration<String> getKeys() {
+        Set<String> keys = new LinkedHashSet<>(keySet);
+        if (parent != null) {
+            keys.addAll(Collections.list(parent.getKeys()));
+        }
+        return Collections.enumeration(keys);
+    }
+
+    @Override protected Set<String> handleKeySet() {
+        return keySet;
+    }
+
+    @Override public Locale getLocale() {
+        return locale;
+    }
+
+    @Override public String getBaseBundleName() {
+        return baseName;
+    }
+
+    /// Unmodifiable view of the keys of this bundle, excluding its parents.
+    private final class KeySet extends AbstractSet<String> {
+        @Override public boolean contains(Object key) {
+            if (!(key instanceof String string)) return false;
+
+            int keyIndex = storage.indexOf(string);
+            return keyIndex >= 0 && storage.hasValue(ordinal, keyIndex);
+        }
+
+        @Override public int size() {
+            return storage.getSize(ordinal);
+        }
+
+        @Override public Iterator<String> iterator() {
+            return new Iterator<>() {
+                private int index = advance(0);
+
+                @Override public boolean hasNext() {
+                    return index < storage.getKeyCount();
+                }
+
+                @Override public String next() {
+                    if (!hasNext()) throw new NoSuchElementException();
+
+                    String key = storage.getKey(index);
+                    index = advance(index + 1);
+                    return key;
+                }
+
+                private int advance(int index) {
+                    while (index < storage.getKeyCount() && !storage.hasValue(ordinal, index)) {
+                        index++;
+                    }
+                    return index;
+                }
+            };
+        }
+    }
+
+    /// Bundles of each requested locale of a catalog, created once with their parents.
+    static final class Cache {
+        private final String baseName;
+        private final CatalogStorage storage;
+        private final Map<Locale, Integer> ordinals;
+        private final Map<Locale, ResourceBundle> bundles = new ConcurrentHashMap<>();
+
+        /// @param baseName Base name reported by the bundles.
+        /// @param storage  Storage of the values.
+        /// @param locales  Locales in the order of their ordinals.
+        Cache(String baseName, CatalogStorage storage, List<Locale> locales) {
+            Map<Locale, Integer> ordinals = new HashMap<>();
+            for (int i = 0; i < locales.size(); i++) {
+                ordinals.put(locales.get(i), i);
+            }
+
+            this.baseName = baseName;
+            this.storage = storage;
+            this.ordinals = Map.copyOf(ordinals);
+        }
+
+        /// {@return Immutable set of all locales}
+        Set<Locale> getLocales() {
+            return ordinals.keySet();
+        }
+
+        /// Retrieves the bundle of the most specific candidate locale present,
+        /// with the bundles of less specific candidates as its parents.
+        ///
+        /// @throws MissingResourceException If no candidate locale is present.
+        ResourceBundle getBundle(Locale locale) {
+            ResourceBundle bundle = bundles.computeIfAbsent(locale, this::createBundle);
+
+            if (bundle == null) {
+                throw new MissingResourceException(
+                    "Can't find bundle for base name " + baseName + ", locale " + locale,
+                    baseName + "_" + locale,
+                    ""
+                );
+            }
+            return bundle;
+        }
+
+        /// @return The bundle with its parents, or `null` if no candidate locale is present.
+        private ResourceBundle createBundle(Locale locale) {
+            CatalogBundle first = null;
+            CatalogBundle child = null;
+
+            for (Locale candidate : CONTROL.getCandidateLocales(baseName, locale)) {
+                Integer ordinal = ordinals.get(candidate);
+                if (ordinal == null) continue;
+
+                CatalogBundle bundle = new CatalogBundle(baseName, storage, ordinal, candidate);
+                if (child == null) {
+                    first = bundle;
+                } else {
+                    child.setParent(bundle);
+                }
+                child = bundle;
+            }
+            return first;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.devinsterling.localize.catalog;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.TreeSet;
+
+/// Values of each locale collected by the builder of a catalog.
+///
+/// **Instances are not thread-safe.**
+final class CatalogEntries {
+    private final Map<Locale, Map<String, String>> entries = new LinkedHashMap<>();
+
+    /// Adds the values of a locale, merged with any values of the locale added prior.
+    ///
+    /// @throws NullPointerException If `locale`, `values`, or any key or value is `null`.
+    void put(Locale locale, Map<String, String> values) {
+        Objects.requireNonNull(locale, "locale must not be null");
+        Map<String, String> entries = this.entries.computeIfAbsent(locale, l -> new HashMap<>());
+
+        for (Map.Entry<String, String> entry : values.entrySet()) {
+            entries.put(
+                Objects.requireNonNull(entry.getKey(), "keys must not be null"),
+                Objects.requireNonNull(entry.getValue(), "values must not be null")
+            );
+        }
+    }
+
+    /// Adds all values of a bundle, including those of its parents, as values of a locale.
+    ///
+    /// @throws NullPointerException If `locale` or `bundle` is `null`.
+    /// @throws IllegalArgumentException If the bundle contains non-string values.
+    void put(Locale locale, ResourceBundle bundle) {
+        Map<String, String> values = new HashMap<>();
+
+        for (String key : bundle.keySet()) {
+            if (!(bundle.getObject(key) instanceof String value)) {
+                throw new IllegalArgumentException("Value of " + key + " must be a string");
+            }
+            values.put(key, value);
+        }
+        put(locale, values);
+    }
+
+    /// {@return Values by key of each locale, in the order locales were added}
+    Map<Locale, Map<String, String>> getLocales() {
+        return entries;
+    }
+
+    /// {@return Distinct keys of all locales, sorted}
+    Set<String> getKeys() {
+        Set<String> keys = new TreeSet<>();
+        for (Map<String, String> values : entries.values()) {
+            keys.addAll(values.keySet());
+        }
+        return keys;
+    }
+
+    /// {@return Index of each distinct value of all locales, in the order first added}
+    Map<String, Integer> getValueIndexes() {
+        Map<String, Integer> indexes = new LinkedHashMap<>();
+        for (Map<String, String> values : entries.values()) {
+            for (String value : values.values()) {
+                indexes.putIfAbsent(value, indexes.size());
+            }
+        }
+        return indexes;
+    }
+}
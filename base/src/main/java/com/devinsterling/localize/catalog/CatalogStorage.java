@@ -0,0 +1,32 @@
+package com.devinsterling.localize.catalog;
+
+/// Storage of the keys and values of all locales of a catalog,
+/// where locales are addressed by their ordinal and keys by their index in sorted order.
+///
+/// Implementations must be thread-safe.
+interface CatalogStorage {
+    /// {@return The number of distinct keys of all locales}
+    int getKeyCount();
+
+    /// {@return The key at the given index in sorted order}
+    String getKey(int keyIndex);
+
+    /// @param key Key to look up.
+    /// @return    Index of the key in sorted order, or `-1` if not present in any locale.
+    int indexOf(String key);
+
+    /// @param locale   Ordinal of the locale.
+    /// @param keyIndex Index of the key.
+    /// @return         The value of the key in the locale, or `null` if absent.
+    String getValue(int locale, int keyIndex);
+
+    /// Equivalent to checking [#getValue(int, int)] for `null`, though without decoding the value.
+    ///
+    /// @param locale   Ordinal of the locale.
+    /// @param keyIndex Index of the key.
+    /// @return         `true` if the locale has a value of the key.
+    boolean hasValue(int locale, int keyIndex);
+
+    /// {@return The number of keys with a value in the given locale}
+    int getSize(int locale);
+}
@@ -0,0 +1,223 @@
+package com.devinsterling.localize.catalog;
+
+import com.devinsterling.localize.ResourceBundleProvider;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.Objects;
+import java.util.ResourceBundle;
+import java.util.Set;
+
+/// A compact, immutable catalog of string values of many locales, provided as resource bundles.
+///
+/// Each [java.util.PropertyResourceBundle] keeps its own hash map, so the same keys and many identical values
+/// (e.g., brand names or placeholders) are stored again for each locale. A catalog instead stores:
+/// - All keys once, shared between all locales.
+/// - All distinct values once, shared between all locales and keys.
+/// - The values of each locale as a packed `int` array of value indexes.
+///
+/// ```
+/// CompactCatalog catalog = CompactCatalog.builder("i18n.sample")
+///     .put(Locale.ROOT, ResourceBundle.getBundle("i18n.sample", Locale.ROOT))
+///     .put(Locale.JAPANESE, ResourceBundle.getBundle("i18n.sample", Locale.JAPANESE))
+///     .build();
+/// // Or, loading each locale with ResourceBundle#getBundle
+/// CompactCatalog catalog = CompactCatalog.of("i18n.sample", List.of(Locale.ROOT, Locale.JAPANESE));
+///
+/// localize.addBundleProvider(catalog);
+/// ```
+///
+/// Bundles are resolved with the same candidate locales as [ResourceBundle#getBundle(String, Locale)]
+/// (e.g., `ja_JP` → `ja` → root), without falling back to the default locale.
+/// Bundles are created once per requested locale and should not be flattened
+/// (see [com.devinsterling.localize.LocalizeConfig#setFlattenResourceBundles(boolean)]),
+/// as flattening copies all values into a hash map again.
+///
+/// Catalogs are **thread-safe**.
+///
+/// @since 1.4
+public final class CompactCatalog implements ResourceBundleProvider {
+    /// Locales whose share of keys is below this ratio store their values sparsely.
+    private static final double DENSE_RATIO = 0.5;
+
+    private final String baseName;
+    private final KeyTable keys;
+    private final String[] values;
+    private final LocaleTable[] tables;
+    private final CatalogBundle.Cache bundles;
+
+    private CompactCatalog(String baseName, CatalogEntries entries) {
+        Map<String, Integer> valueIndexes = entries.getValueIndexes();
+        List<Locale> locales = new ArrayList<>(entries.getLocales().keySet());
+
+        this.baseName = baseName;
+        this.keys = new KeyTable(entries.getKeys());
+        this.values = valueIndexes.keySet().toArray(new String[0]);
+        this.tables = new LocaleTable[locales.size()];
+        for (int i = 0; i < tables.length; i++) {
+            tables[i] = LocaleTable.of(keys, valueIndexes, entries.getLocales().get(locales.get(i)));
+        }
+        this.bundles = new CatalogBundle.Cache(baseName, new Storage(), locales);
+    }
+
+    /// @param baseName Base name reported by bundles of the catalog, such as `i18n.sample`.
+    /// @return         A new builder of a catalog.
+    /// @throws NullPointerException If `baseName` is `null`.
+    public static Builder builder(String baseName) {
+        return new Builder(Objects.requireNonNull(baseName, "baseName must not be null"));
+    }
+
+    /// Creates a catalog from the bundles of the given locales, loaded with [ResourceBundle#getBundle],
+    /// where locales without a bundle are skipped.
+    ///
+    /// @param baseName Base name of the bundles to load, such as `i18n.sample`.
+    /// @param locales  Locales to load, typically including [Locale#ROOT].
+    /// @return         A new catalog of the loaded bundles.
+    /// @throws NullPointerException If `baseName` or `locales` is `null`.
+    /// @throws IllegalArgumentException If any bundle contains non-string values.
+    public static CompactCatalog of(String baseName, List<Locale> locales) {
+        Builder builder = builder(baseName);
+        CatalogBundle.load(builder.entries, baseName, locales);
+        return builder.build();
+    }
+
+    /// Retrieves the bundle of the most specific candidate locale present in this catalog,
+    /// with the bundles of less specific candidates as its parents.
+    ///
+    /// @param locale Locale for the produced resource bundle to be based upon.
+    /// @return       The bundle of the given locale, shared between calls.
+    /// @throws MissingResourceException If no candidate locale is present in this catalog.
+    @Override public ResourceBundle getBundle(Locale locale) {
+        return bundles.getBundle(locale);
+    }
+
+    /// {@return Base name reported by bundles of this catalog}
+    public String getBaseName() {
+        return baseName;
+    }
+
+    /// {@return Immutable set of all locales present in this catalog}
+    public Set<Locale> getLocales() {
+        return bundles.getLocales();
+    }
+
+    /// {@return The number of distinct keys of all locales}
+    public int getKeyCount() {
+        return keys.size();
+    }
+
+    /// {@return The number of distinct values of all locales and keys}
+    public int getValueCount() {
+        return values.length;
+    }
+
+    private final class Storage implements CatalogStorage {
+        @Override public int getKeyCount() {
+            return keys.size();
+        }
+
+        @Override public String getKey(int keyIndex) {
+            return keys.get(keyIndex);
+        }
+
+        @Override public int indexOf(String key) {
+            return keys.indexOf(key);
+        }
+
+        @Override public String getValue(int locale, int keyIndex) {
+            int valueIndex = tables[locale].valueIndexOf(keyIndex);
+            return valueIndex < 0 ? null : values[valueIndex];
+        }
+
+        @Override public boolean hasValue(int locale, int keyIndex) {
+            return tables[locale].valueIndexOf(keyIndex) >= 0;
+        }
+
+        @Override public int getSize(int locale) {
+            return tables[locale].size();
+        }
+    }
+
+    /// Values of a single locale, stored either densely by key index,
+    /// or sparsely as sorted key indexes along with their value indexes.
+    private record LocaleTable(int[] keyIndexes, int[] valueIndexes, int size) {
+        static LocaleTable of(KeyTable keys, Map<String, Integer> valueIndexes, Map<String, String> entries) {
+            if (entries.size() >= keys.size() * DENSE_RATIO) {
+                int[] dense = new int[keys.size()];
+                Arrays.fill(dense, -1);
+
+                for (Map.Entry<String, String> entry : entries.entrySet()) {
+                    dense[keys.indexOf(entry.getKey())] = valueIndexes.get(entry.getValue());
+                }
+                return new LocaleTable(null, dense, entries.size());
+            }
+
+            int[] keyIndexes = new int[entries.size()];
+            int i = 0;
+            for (String key : entries.keySet()) {
+                keyIndexes[i++] = keys.indexOf(key);
+            }
+            Arrays.sort(keyIndexes);
+
+            int[] sparse = new int[keyIndexes.length];
+            for (i = 0; i < keyIndexes.length; i++) {
+                sparse[i] = valueIndexes.get(entries.get(keys.get(keyIndexes[i])));
+            }
+            return new LocaleTable(keyIndexes, sparse, entries.size());
+        }
+
+        /// @return The value index of the given key index, or `-1` if absent.
+        int valueIndexOf(int keyIndex) {
+            if (keyIndexes == null) return valueIndexes[keyIndex];
+
+            int i = Arrays.binarySearch(keyIndexes, keyIndex);
+            return i < 0 ? -1 : valueIndexes[i];
+        }
+    }
+
+    /// Builder of a [CompactCatalog].
+    ///
+    /// **Builder instances are not thread-safe.**
+    public static final class Builder {
+        private final String baseName;
+        private final CatalogEntries entries = new CatalogEntries();
+
+        private Builder(String baseName) {
+            this.baseName = baseName;
+        }
+
+        /// Adds the values of a locale, merged with any values of the locale added prior.
+        ///
+        /// @param locale Locale of the values.
+        /// @param values Values by key.
+        /// @return       This builder instance.
+        /// @throws NullPointerException If `locale`, `values`, or any key or value is `null`.
+        public Builder put(Locale locale, Map<String, String> values) {
+            entries.put(locale, values);
+            return this;
+        }
+
+        /// Adds all values of a bundle, including those of its parents, as values of a locale.
+        ///
+        /// Values inherited from parents are deduplicated, so they cost only a value index.
+        ///
+        /// @param locale Locale of the values.
+        /// @param bundle Bundle to copy the values of.
+        /// @return       This builder instance.
+        /// @throws NullPointerException If `locale` or `bundle` is `null`.
+        /// @throws IllegalArgumentException If the bundle contains non-string values.
+        public Builder put(Locale locale, ResourceBundle bundle) {
+            entries.put(locale, bundle);
+            return this;
+        }
+
+        /// {@return A new catalog of all values added so far}
+        public CompactCatalog build() {
+            return new CompactCatalog(baseName, entries);
+        }
+    }
+}
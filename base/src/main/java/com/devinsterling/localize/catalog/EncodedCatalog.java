@@ -0,0 +1,298 @@
+package com.devinsterling.localize.catalog;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/// Encoded keys, values, and locale tables of a catalog in a single buffer.
+///
+/// Layout, where all integers are big-endian and offsets are absolute:
+/// ```
+/// int magic, int version
+/// int keyCount, int slotCount, int valueCount, int localeCount
+/// int baseNameLength, byte[] baseName
+/// int localeTagsLength, byte[] localeTags       // Comma-separated language tags
+/// int[slotCount] slots                          // Key index + 1 by hash, 0 if empty
+/// int[keyCount + 1] keyOffsets
+/// int[valueCount + 1] valueOffsets
+/// int[localeCount] localeSizes
+/// int[localeCount * keyCount] valueIndexes      // -1 if absent
+/// byte[] keys, byte[] values                    // UTF-8
+/// ```
+final class EncodedCatalog {
+    private static final int MAGIC = 0x4C434154; // "LCAT"
+    private static final int VERSION = 1;
+    /// Size of the fixed fields, up to the base name.
+    private static final int HEADER_SIZE = 24;
+
+    private final ByteBuffer buffer;
+    private final String baseName;
+    private final List<Locale> locales;
+    private final int keyCount;
+    private final int valueCount;
+    private final int mask;
+    private final int slotsOffset;
+    private final int keyOffsetsOffset;
+    private final int valueOffsetsOffset;
+    private final int localeSizesOffset;
+    private final int valueIndexesOffset;
+
+    private EncodedCatalog(ByteBuffer buffer) {
+        this.buffer = buffer.asReadOnlyBuffer();
+
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IllegalArgumentException("Not a catalog of version " + VERSION);
+        }
+
+        this.keyCount = buffer.getInt(8);
+        int slotCount = buffer.getInt(12);
+        this.valueCount = buffer.getInt(16);
+        int localeCount = buffer.getInt(20);
+        this.mask = slotCount - 1;
+
+        int offset = HEADER_SIZE;
+        this.baseName = decode(offset + 4, buffer.getInt(offset));
+        offset += 4 + buffer.getInt(offset);
+
+        String localeTags = decode(offset + 4, buffer.getInt(offset));
+        offset += 4 + buffer.getInt(offset);
+
+        List<Locale> locales = new ArrayList<>(localeCount);
+        if (localeCount > 0) {
+            for (String tag : localeTags.split(",", -1)) {
+                locales.add(Locale.forLanguageTag(tag));
+            }
+        }
+        this.locales = List.copyOf(locales);
+
+        this.slotsOffset = offset;
+        this.keyOffsetsOffset = slotsOffset + slotCount * 4;
+        this.valueOffsetsOffset = keyOffsetsOffset + (keyCount + 1) * 4;
+        this.localeSizesOffset = valueOffsetsOffset + (valueCount + 1) * 4;
+        this.valueIndexesOffset = localeSizesOffset + localeCount * 4;
+    }
+
+    /// Encodes the given entries into a direct buffer.
+    static EncodedCatalog encode(String baseName, List<Locale> locales, CatalogEntries entries) {
+        String[] keys = entries.getKeys().toArray(new String[0]);
+        Map<String, Integer> valueIndexes = entries.getValueIndexes();
+        Map<String, Integer> keyIndexes = new HashMap<>();
+        for (int i = 0; i < keys.length; i++) {
+            keyIndexes.put(keys[i], i);
+        }
+
+        byte[][] encodedKeys = new byte[keys.length][];
+        long keyBytes = 0;
+        for (int i = 0; i < keys.length; i++) {
+            encodedKeys[i] = keys[i].getBytes(StandardCharsets.UTF_8);
+            keyBytes += encodedKeys[i].length;
+        }
+
+        byte[][] encodedValues = new byte[valueIndexes.size()][];
+        long valueBytes = 0;
+        for (Map.Entry<String, Integer> entry : valueIndexes.entrySet()) {
+            encodedValues[entry.getValue()] = entry.getKey().getBytes(StandardCharsets.UTF_8);
+            valueBytes += encodedValues[entry.getValue()].length;
+        }
+
+        List<String> tags = new ArrayList<>();
+        for (Locale locale : locales) {
+            tags.add(locale.toLanguageTag());
+        }
+        byte[] encodedBaseName = baseName.getBytes(StandardCharsets.UTF_8);
+        byte[] encodedTags = String.join(",", tags).getBytes(StandardCharsets.UTF_8);
+        int slotCount = KeyTable.getSlotCount(keys.length);
+
+        long size = (long) HEADER_SIZE
+                    + 4 + encodedBaseName.length
+                    + 4 + encodedTags.length
+                    + 4L * slotCount
+                    + 4L * (keys.length + 1)
+                    + 4L * (encodedValues.length + 1)
+                    + 4L * locales.size()
+                    + 4L * locales.size() * keys.length
+                    + keyBytes
+                    + valueBytes;
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Catalog of " + size + " bytes exceeds 2 GB");
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect((int) size);
+        buffer.putInt(MAGIC).putInt(VERSION)
+              .putInt(keys.length).putInt(slotCount).putInt(encodedValues.length).putInt(locales.size())
+              .putInt(encodedBaseName.length).put(encodedBaseName)
+              .putInt(encodedTags.length).put(encodedTags);
+
+        int[] slots = new int[slotCount];
+        for (int i = 0; i < keys.length; i++) {
+            int slot = KeyTable.spread(keys[i].hashCode()) & (slotCount - 1);
+            while (slots[slot] != 0) {
+                slot = (slot + 1) & (slotCount - 1);
+            }
+            slots[slot] = i + 1;
+        }
+        for (int slot : slots) {
+            buffer.putInt(slot);
+        }
+
+        int dataOffset = buffer.position()
+                         + 4 * (keys.length + 1)
+                         + 4 * (encodedValues.length + 1)
+                         + 4 * locales.size()
+                         + 4 * locales.size() * keys.length;
+        int offset = dataOffset;
+        for (byte[] key : encodedKeys) {
+            buffer.putInt(offset);
+            offset += key.length;
+        }
+        buffer.putInt(offset);
+        for (byte[] value : encodedValues) {
+            buffer.putInt(offset);
+            offset += value.length;
+        }
+        buffer.putInt(offset);
+
+        for (Locale locale : locales) {
+            buffer.putInt(entries.getLocales().get(locale).size());
+        }
+        for (Locale locale : locales) {
+            int[] table = new int[keys.length];
+            Arrays.fill(table, -1);
+
+            for (Map.Entry<String, String> entry : entries.getLocales().get(locale).entrySet()) {
+                table[keyIndexes.get(entry.getKey())] = valueIndexes.get(entry.getValue());
+            }
+            for (int valueIndex : table) {
+                buffer.putInt(valueIndex);
+            }
+        }
+
+        for (byte[] key : encodedKeys) {
+            buffer.put(key);
+        }
+        for (byte[] value : encodedValues) {
+            buffer.put(value);
+        }
+        return new EncodedCatalog(buffer.clear());
+    }
+
+    /// Reads a catalog previously encoded, such as from a mapped file.
+    ///
+    /// @param buffer Big-endian buffer of an encoded catalog, which must not be modified.
+    /// @throws IllegalArgumentException If the buffer does not contain a catalog of the current version.
+    static EncodedCatalog read(ByteBuffer buffer) {
+        return new EncodedCatalog(buffer.duplicate().clear());
+    }
+
+    /// Writes the encoded catalog to the given channel.
+    ///
+    /// @throws IOException If writing fails.
+    void writeTo(WritableByteChannel channel) throws IOException {
+        ByteBuffer source = buffer.duplicate().clear();
+        while (source.hasRemaining()) {
+            channel.write(source);
+        }
+    }
+
+    String getBaseName() {
+        return baseName;
+    }
+
+    List<Locale> getLocales() {
+        return locales;
+    }
+
+    int getKeyCount() {
+        return keyCount;
+    }
+
+    int getValueCount() {
+        return valueCount;
+    }
+
+    long getByteSize() {
+        return buffer.capacity();
+    }
+
+    String getKey(int keyIndex) {
+        int offset = buffer.getInt(keyOffsetsOffset + keyIndex * 4);
+        return decode(offset, buffer.getInt(keyOffsetsOffset + keyIndex * 4 + 4) - offset);
+    }
+
+    String getValue(int valueIndex) {
+        int offset = buffer.getInt(valueOffsetsOffset + valueIndex * 4);
+        return decode(offset, buffer.getInt(valueOffsetsOffset + valueIndex * 4 + 4) - offset);
+    }
+
+    int getValueIndex(int locale, int keyIndex) {
+        return buffer.getInt(valueIndexesOffset + (locale * keyCount + keyIndex) * 4);
+    }
+
+    int getSize(int locale) {
+        return buffer.getInt(localeSizesOffset + locale * 4);
+    }
+
+    /// @return Index of the key, or `-1` if not present.
+    int indexOf(String key) {
+        int slot = KeyTable.spread(key.hashCode()) & mask;
+
+        for (int entry; (entry = buffer.getInt(slotsOffset + slot * 4)) != 0; slot = (slot + 1) & mask) {
+            int offset = buffer.getInt(keyOffsetsOffset + (entry - 1) * 4);
+            int end = buffer.getInt(keyOffsetsOffset + entry * 4);
+
+            if (equalsUtf8(offset, end, key)) return entry - 1;
+        }
+        return -1;
+    }
+
+    /// Compares encoded bytes with a string without encoding it, where unpaired surrogates
+    /// are encoded as `?`, as with [String#getBytes(java.nio.charset.Charset)].
+    private boolean equalsUtf8(int offset, int end, String string) {
+        int position = offset;
+
+        for (int i = 0; i < string.length(); i++) {
+            int c = string.charAt(i);
+
+            if (Character.isHighSurrogate((char) c)
+                    && i + 1 < string.length()
+                    && Character.isLowSurrogate(string.charAt(i + 1))) {
+                c = Character.toCodePoint((char) c, string.charAt(++i));
+            } else if (Character.isSurrogate((char) c)) {
+                c = '?';
+            }
+
+            if (c < 0x80) {
+                if (position >= end || buffer.get(position++) != (byte) c) return false;
+            } else if (c < 0x800) {
+                if (end - position < 2
+                        || buffer.get(position++) != (byte) (0xC0 | c >> 6)
+                        || buffer.get(position++) != (byte) (0x80 | c & 0x3F)) return false;
+            } else if (c < 0x10000) {
+                if (end - position < 3
+                        || buffer.get(position++) != (byte) (0xE0 | c >> 12)
+                        || buffer.get(position++) != (byte) (0x80 | c >> 6 & 0x3F)
+                        || buffer.get(position++) != (byte) (0x80 | c & 0x3F)) return false;
+            } else {
+                if (end - position < 4
+                        || buffer.get(position++) != (byte) (0xF0 | c >> 18)
+                        || buffer.get(position++) != (byte) (0x80 | c >> 12 & 0x3F)
+                        || buffer.get(position++) != (byte) (0x80 | c >> 6 & 0x3F)
+                        || buffer.get(position++) != (byte) (0x80 | c & 0x3F)) return false;
+            }
+        }
+        return position == end;
+    }
+
+    private String decode(int offset, int length) {
+        byte[] bytes = new byte[length];
+        buffer.get(offset, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
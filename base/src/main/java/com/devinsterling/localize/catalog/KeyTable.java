@@ -0,0 +1,65 @@
+package com.devinsterling.localize.catalog;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/// Immutable table of distinct keys, sorted and shared between all locales of a catalog.
+///
+/// Keys are addressed by their index in sorted order. Lookups use an open-addressing index
+/// of plain `int` slots rather than hash map entries.
+final class KeyTable {
+    private final String[] keys;
+    /// Index of each key plus one by hash, where `0` is an empty slot.
+    private final int[] slots;
+    private final int mask;
+
+    /// @param keys Distinct keys in any order.
+    KeyTable(Collection<String> keys) {
+        this.keys = keys.toArray(new String[0]);
+        Arrays.sort(this.keys);
+
+        int capacity = getSlotCount(this.keys.length);
+        this.slots = new int[capacity];
+        this.mask = capacity - 1;
+
+        for (int i = 0; i < this.keys.length; i++) {
+            int slot = spread(this.keys[i].hashCode()) & mask;
+            while (slots[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = i + 1;
+        }
+    }
+
+    /// {@return The number of keys}
+    int size() {
+        return keys.length;
+    }
+
+    /// {@return The key at the given index in sorted order}
+    String get(int index) {
+        return keys[index];
+    }
+
+    /// @param key Key to look up.
+    /// @return    Index of the key in sorted order, or `-1` if not present.
+    int indexOf(String key) {
+        int slot = spread(key.hashCode()) & mask;
+
+        for (int entry; (entry = slots[slot]) != 0; slot = (slot + 1) & mask) {
+            if (keys[entry - 1].equals(key)) return entry - 1;
+        }
+        return -1;
+    }
+
+    /// {@return The number of index slots for the given number of keys, a power of two}
+    static int getSlotCount(int keyCount) {
+        // At most half full, so probe sequences stay short
+        return Integer.highestOneBit(Math.max(2, keyCount) * 2 - 1) << 1;
+    }
+
+    /// {@return The hash of a key, spread for indexing slots}
+    static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
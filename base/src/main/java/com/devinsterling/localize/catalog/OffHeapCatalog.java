@@ -0,0 +1,299 @@
+package com.devinsterling.localize.catalog;
+
+import com.devinsterling.localize.CacheStatistics;
+import com.devinsterling.localize.ResourceBundleProvider;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.Objects;
+import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/// An immutable catalog of string values of many locales, stored outside the Java heap.
+///
+/// Large catalogs held on the heap are long-lived objects that the garbage collector keeps scanning.
+/// This catalog instead stores all keys and values as UTF-8 bytes in a single direct [java.nio.ByteBuffer]
+/// along with a hash index of the keys, where values are only decoded to strings once looked up.
+/// As with [CompactCatalog], keys and identical values are stored once for all locales.
+///
+/// ```
+/// OffHeapCatalog catalog = OffHeapCatalog.builder("i18n.sample")
+///     .put(Locale.ROOT, ResourceBundle.getBundle("i18n.sample", Locale.ROOT))
+///     .put(Locale.JAPANESE, ResourceBundle.getBundle("i18n.sample", Locale.JAPANESE))
+///     .cacheSize(1024) // Optionally keep recently decoded values on the heap
+///     .build();
+///
+/// localize.addBundleProvider(catalog);
+/// ```
+///
+/// Decoding allocates a string per lookup, so frequently retrieved values should be cached by
+/// [Builder#cacheSize(int)], or by [com.devinsterling.localize.LocalizeConfig#setOutputCacheSize(int)].
+/// The memory of a catalog is released once the catalog is garbage collected.
+///
+/// Catalogs can be written to a file by [#writeTo(Path)] and mapped back into memory by [#map(Path)],
+/// so that a later process reuses the encoded catalog without loading its sources again.
+///
+/// Bundles are resolved as with [CompactCatalog#getBundle(Locale)]. Catalogs are **thread-safe**.
+///
+/// @since 1.4
+public final class OffHeapCatalog implements ResourceBundleProvider {
+    private final EncodedCatalog data;
+    private final DecodedValueCache cache;
+    private final CatalogBundle.Cache bundles;
+
+    private OffHeapCatalog(EncodedCatalog data, int cacheSize) {
+        this.data = data;
+        this.cache = cacheSize == 0 ? null : new DecodedValueCache(cacheSize);
+        this.bundles = new CatalogBundle.Cache(data.getBaseName(), new Storage(), data.getLocales());
+    }
+
+    /// @param baseName Base name reported by bundles of the catalog, such as `i18n.sample`.
+    /// @return         A new builder of a catalog.
+    /// @throws NullPointerException If `baseName` is `null`.
+    public static Builder builder(String baseName) {
+        return new Builder(Objects.requireNonNull(baseName, "baseName must not be null"));
+    }
+
+    /// Creates a catalog from the bundles of the given locales, loaded with [ResourceBundle#getBundle],
+    /// where locales without a bundle are skipped.
+    ///
+    /// @param baseName Base name of the bundles to load, such as `i18n.sample`.
+    /// @param locales  Locales to load, typically including [Locale#ROOT].
+    /// @return         A new catalog of the loaded bundles, without a cache of decoded values.
+    /// @throws NullPointerException If `baseName` or `locales` is `null`.
+    /// @throws IllegalArgumentException If any bundle contains non-string values.
+    public static OffHeapCatalog of(String baseName, List<Locale> locales) {
+        Builder builder = builder(baseName);
+        CatalogBundle.load(builder.entries, baseName, locales);
+        return builder.build();
+    }
+
+    /// Maps a catalog previously written by [#writeTo(Path)] into memory, without reading it onto the heap.
+    ///
+    /// The file is mapped read-only and must not be modified while the catalog is in use.
+    ///
+    /// @param path File of the catalog.
+    /// @return     A new catalog backed by the mapped file, without a cache of decoded values.
+    /// @throws NullPointerException If `path` is `null`.
+    /// @throws IOException If the file cannot be read.
+    /// @throws IllegalArgumentException If the file does not contain a catalog of the current format,
+    ///                                  or exceeds 2 GB.
+    public static OffHeapCatalog map(Path path) throws IOException {
+        Objects.requireNonNull(path, "path must not be null");
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Catalog of " + size + " bytes exceeds 2 GB: " + path);
+            }
+            // The mapping remains valid once the channel is closed
+            return new OffHeapCatalog(EncodedCatalog.read(channel.map(FileChannel.MapMode.READ_ONLY, 0, size)), 0);
+        }
+    }
+
+    /// Writes this catalog to a file, to be mapped by [#map(Path)].
+    ///
+    /// The catalog is first written to a temporary file in the same directory, which then replaces
+    /// the given file atomically, so readers never observe a partially written catalog.
+    ///
+    /// @param path File to write, created or replaced.
+    /// @throws NullPointerException If `path` is `null`.
+    /// @throws IOException If writing fails, in which case the given file is left unchanged.
+    public void writeTo(Path path) throws IOException {
+        Objects.requireNonNull(path, "path must not be null");
+
+        Path directory = path.toAbsolutePath().getParent();
+        Path temporary = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+                data.writeTo(channel);
+                channel.force(false);
+            }
+            Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    /// Retrieves the bundle of the most specific candidate locale present in this catalog,
+    /// with the bundles of less specific candidates as its parents.
+    ///
+    /// @param locale Locale for the produced resource bundle to be based upon.
+    /// @return       The bundle of the given locale, shared between calls.
+    /// @throws MissingResourceException If no candidate locale is present in this catalog.
+    @Override public ResourceBundle getBundle(Locale locale) {
+        return bundles.getBundle(locale);
+    }
+
+    /// {@return Base name reported by bundles of this catalog}
+    public String getBaseName() {
+        return data.getBaseName();
+    }
+
+    /// {@return Immutable set of all locales present in this catalog}
+    public Set<Locale> getLocales() {
+        return bundles.getLocales();
+    }
+
+    /// {@return The number of distinct keys of all locales}
+    public int getKeyCount() {
+        return data.getKeyCount();
+    }
+
+    /// {@return The number of distinct values of all locales and keys}
+    public int getValueCount() {
+        return data.getValueCount();
+    }
+
+    /// {@return The number of bytes stored outside the heap}
+    public long getOffHeapSize() {
+        return data.getByteSize();
+    }
+
+    /// {@return Statistics of the cache of decoded values, or [CacheStatistics#EMPTY] if disabled}
+    public CacheStatistics getCacheStatistics() {
+        return cache == null ? CacheStatistics.EMPTY : cache.getStatistics();
+    }
+
+    private final class Storage implements CatalogStorage {
+        @Override public int getKeyCount() {
+            return data.getKeyCount();
+        }
+
+        @Override public String getKey(int keyIndex) {
+            return data.getKey(keyIndex);
+        }
+
+        @Override public int indexOf(String key) {
+            return data.indexOf(key);
+        }
+
+        @Override public String getValue(int locale, int keyIndex) {
+            int valueIndex = data.getValueIndex(locale, keyIndex);
+
+            if (valueIndex < 0) return null;
+            return cache == null ? data.getValue(valueIndex) : cache.get(valueIndex, data);
+        }
+
+        @Override public boolean hasValue(int locale, int keyIndex) {
+            return data.getValueIndex(locale, keyIndex) >= 0;
+        }
+
+        @Override public int getSize(int locale) {
+            return data.getSize(locale);
+        }
+    }
+
+    /// Direct-mapped cache of recently decoded values by value index, where each slot holds
+    /// the value last decoded for any index mapped to it. Lookups require no locking.
+    private static final class DecodedValueCache {
+        private final AtomicReferenceArray<DecodedValue> slots;
+        private final int mask;
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder evictions = new LongAdder();
+
+        private DecodedValueCache(int size) {
+            int capacity = Integer.highestOneBit(size * 2 - 1);
+            this.slots = new AtomicReferenceArray<>(capacity);
+            this.mask = capacity - 1;
+        }
+
+        private String get(int valueIndex, EncodedCatalog data) {
+            int slot = valueIndex & mask;
+            DecodedValue cached = slots.get(slot);
+
+            if (cached != null && cached.index() == valueIndex) {
+                hits.increment();
+                return cached.value();
+            }
+
+            misses.increment();
+            if (cached != null) evictions.increment();
+
+            String value = data.getValue(valueIndex);
+            slots.set(slot, new DecodedValue(valueIndex, value));
+            return value;
+        }
+
+        private CacheStatistics getStatistics() {
+            int size = 0;
+            for (int i = 0; i < slots.length(); i++) {
+                if (slots.get(i) != null) size++;
+            }
+            return new CacheStatistics(hits.sum(), misses.sum(), evictions.sum(), size);
+        }
+
+        private record DecodedValue(int index, String value) {}
+    }
+
+    /// Builder of an [OffHeapCatalog].
+    ///
+    /// **Builder instances are not thread-safe.**
+    public static final class Builder {
+        private final String baseName;
+        private final CatalogEntries entries = new CatalogEntries();
+        private int cacheSize;
+
+        private Builder(String baseName) {
+            this.baseName = baseName;
+        }
+
+        /// Adds the values of a locale, merged with any values of the locale added prior.
+        ///
+        /// @param locale Locale of the values.
+        /// @param values Values by key.
+        /// @return       This builder instance.
+        /// @throws NullPointerException If `locale`, `values`, or any key or value is `null`.
+        public Builder put(Locale locale, Map<String, String> values) {
+            entries.put(locale, values);
+            return this;
+        }
+
+        /// Adds all values of a bundle, including those of its parents, as values of a locale.
+        ///
+        /// @param locale Locale of the values.
+        /// @param bundle Bundle to copy the values of.
+        /// @return       This builder instance.
+        /// @throws NullPointerException If `locale` or `bundle` is `null`.
+        /// @throws IllegalArgumentException If the bundle contains non-string values.
+        public Builder put(Locale locale, ResourceBundle bundle) {
+            entries.put(locale, bundle);
+            return this;
+        }
+
+        /// Sets the number of recently decoded values to keep on the heap,
+        /// rounded up to a power of two, where `0` disables the cache.
+        ///
+        /// The initial value is `0`.
+        ///
+        /// @param cacheSize Number of decoded values to keep.
+        /// @return          This builder instance.
+        /// @throws IllegalArgumentException If `cacheSize` is negative or exceeds `2^29`.
+        public Builder cacheSize(int cacheSize) {
+            if (cacheSize < 0 || cacheSize > 1 << 29) {
+                throw new IllegalArgumentException("cacheSize must be between 0 and 2^29: " + cacheSize);
+            }
+            this.cacheSize = cacheSize;
+            return this;
+        }
+
+        /// {@return A new catalog of all values added so far}
+        /// @throws IllegalStateException If the encoded catalog exceeds 2 GB.
+        public OffHeapCatalog build() {
+            List<Locale> locales = new ArrayList<>(entries.getLocales().keySet());
+            return new OffHeapCatalog(EncodedCatalog.encode(baseName, locales, entries), cacheSize);
+        }
+    }
+}
@@ -83,4 +83,5 @@ module com.devinsterling.localize {
     requires com.ibm.icu;
 
     exports com.devinsterling.localize;
+    exports com.devinsterling.localize.catalog;
 }
\ No newline at end of file
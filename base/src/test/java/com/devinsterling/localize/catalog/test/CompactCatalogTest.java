@@ -0,0 +1,149 @@
+package com.devinsterling.localize.catalog.test;
+
+import com.devinsterling.localize.Localize;
+import com.devinsterling.localize.catalog.CompactCatalog;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.PropertyResourceBundle;
+import java.util.ResourceBundle;
+import java.util.Set;
+
+import static com.devinsterling.localize.test.TestUtil.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompactCatalogTest {
+    private static final int HEAP_KEYS = 50_000;
+    private static final List<Locale> HEAP_LOCALES = List.of(
+        Locale.ROOT, Locale.ENGLISH, Locale.JAPANESE, Locale.CHINESE,
+        Locale.GERMAN, Locale.FRENCH, Locale.ITALIAN, Locale.KOREAN
+    );
+
+    @Test void testLookupWithParents() {
+        CompactCatalog catalog = CompactCatalog.builder("i18n.sample")
+            .put(Locale.ROOT, Map.of("Brand", "Localize", "Greet", "Hello"))
+            .put(Locale.JAPANESE, Map.of("Greet", "こんにちは"))
+            .put(Locale.JAPAN, Map.of("Region", "日本"))
+            .build();
+
+        ResourceBundle bundle = catalog.getBundle(Locale.JAPAN);
+        assertEquals(Locale.JAPAN, bundle.getLocale());
+        assertEquals("i18n.sample", bundle.getBaseBundleName());
+        assertEquals("日本", bundle.getString("Region"));
+        assertEquals("こんにちは", bundle.getString("Greet"));
+        assertEquals("Localize", bundle.getString("Brand"));
+        assertTrue(bundle.containsKey("Brand"));
+        assertFalse(bundle.containsKey("Missing"));
+        assertThrows(MissingResourceException.class, () -> bundle.getString("Missing"));
+        assertEquals(Set.of("Region", "Greet", "Brand"), bundle.keySet());
+
+        // Candidates without values resolve to their parents
+        assertEquals(Locale.ROOT, catalog.getBundle(Locale.GERMANY).getLocale());
+        assertSame(bundle, catalog.getBundle(Locale.JAPAN));
+    }
+
+    @Test void testDeduplication() {
+        CompactCatalog catalog = CompactCatalog.builder("sample")
+            .put(Locale.ROOT, Map.of("Brand", "Localize", "Greet", "Hello", "Placeholder", "{0}"))
+            .put(Locale.ENGLISH, Map.of("Brand", "Localize", "Greet", "Hello", "Placeholder", "{0}"))
+            .put(Locale.JAPANESE, Map.of("Brand", "Localize", "Greet", "こんにちは", "Other", "{0}"))
+            .build();
+
+        assertEquals(Set.of(Locale.ROOT, Locale.ENGLISH, Locale.JAPANESE), catalog.getLocales());
+        assertEquals(4, catalog.getKeyCount());
+        assertEquals(4, catalog.getValueCount());
+    }
+
+    @Test void testMissingBundle() {
+        CompactCatalog catalog = CompactCatalog.builder("sample")
+            .put(Locale.JAPANESE, Map.of("Greet", "こんにちは"))
+            .build();
+
+        assertThrows(MissingResourceException.class, () -> catalog.getBundle(Locale.ENGLISH));
+        assertThrows(NullPointerException.class, () -> CompactCatalog.builder(null));
+        assertThrows(
+            NullPointerException.class,
+            () -> CompactCatalog.builder("sample").put(Locale.ROOT, Collections.singletonMap("key", null))
+        );
+    }
+
+    @Test void testLoadedBundles() {
+        CompactCatalog catalog = CompactCatalog.of("test", List.of(Locale.ROOT, Locale.JAPANESE, Locale.KOREAN));
+        Localize localize = Localize.of(Locale.JAPANESE);
+        localize.addBundleProvider(catalog);
+
+        // Korean has no bundle, so is skipped
+        assertEquals(Set.of(Locale.ROOT, Locale.JAPANESE), catalog.getLocales());
+        assertEquals(ResourceBundle.getBundle("test", Locale.JAPANESE).getString(TEST_KEY_GREET),
+                     localize.getValue(TEST_KEY_GREET));
+        assertEquals("aとbとc", localize.get(TEST_KEY_NAMED).arg("first", "a").arg("middle", "b").arg("last", "c").value());
+
+        localize.setLocale(Locale.ENGLISH);
+        assertEquals("hi", localize.getValue(TEST_KEY_GREET));
+    }
+
+    /// Compares the retained heap of property bundles with a catalog of the same synthetic values,
+    /// where half of the values of each locale are shared between all locales (e.g., brand names).
+    @Test void testHeapSize() throws IOException {
+        long baseline = getUsedHeap();
+        List<ResourceBundle> bundles = new ArrayList<>();
+        for (int i = 0; i < HEAP_LOCALES.size(); i++) {
+            bundles.add(createBundle(i));
+        }
+        long bundleHeap = getUsedHeap() - baseline;
+
+        CompactCatalog.Builder builder = CompactCatalog.builder("synthetic");
+        for (int i = 0; i < HEAP_LOCALES.size(); i++) {
+            builder.put(HEAP_LOCALES.get(i), bundles.get(i));
+        }
+        bundles = null;
+        CompactCatalog catalog = builder.build();
+        builder = null;
+        long catalogHeap = getUsedHeap() - baseline;
+
+        assertEquals(HEAP_KEYS, catalog.getKeyCount());
+        assertEquals(HEAP_KEYS / 2 + HEAP_KEYS / 2 * HEAP_LOCALES.size(), catalog.getValueCount());
+        assertEquals("Shared value 7", catalog.getBundle(Locale.KOREAN).getString("Synthetic.key14"));
+        assertTrue(
+            catalogHeap < bundleHeap * 0.6,
+            "Catalog retains " + catalogHeap + " bytes, while bundles retain " + bundleHeap + " bytes"
+        );
+    }
+
+    /// Parses each locale separately, as loading properties files does.
+    private static ResourceBundle createBundle(int locale) throws IOException {
+        StringBuilder properties = new StringBuilder();
+
+        for (int i = 0; i < HEAP_KEYS; i++) {
+            properties.append("Synthetic.key").append(i).append('=');
+            if (i % 2 == 0) {
+                properties.append("Shared value ").append(i / 2);
+            } else {
+                properties.append("Value ").append(i).append(" of locale ").append(locale);
+            }
+            properties.append('\n');
+        }
+        return new PropertyResourceBundle(new StringReader(properties.toString()));
+    }
+
+    private static long getUsedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        long used = Long.MAX_VALUE;
+
+        // Repeated, as a single request may not collect everything
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            used = Math.min(used, runtime.totalMemory() - runtime.freeMemory());
+        }
+        return used;
+    }
+}
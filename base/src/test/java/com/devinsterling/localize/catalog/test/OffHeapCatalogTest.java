@@ -0,0 +1,180 @@
+package com.devinsterling.localize.catalog.test;
+
+import com.devinsterling.localize.CacheStatistics;
+import com.devinsterling.localize.Localize;
+import com.devinsterling.localize.catalog.OffHeapCatalog;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static com.devinsterling.localize.test.TestUtil.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OffHeapCatalogTest {
+
+    @Test void testLookupWithParents() {
+        OffHeapCatalog catalog = OffHeapCatalog.builder("i18n.sample")
+            .put(Locale.ROOT, Map.of("Brand", "Localize", "Greet", "Hello"))
+            .put(Locale.JAPANESE, Map.of("Greet", "こんにちは", "Emoji", "👋"))
+            .put(Locale.JAPAN, Map.of("Region", "日本"))
+            .build();
+
+        ResourceBundle bundle = catalog.getBundle(Locale.JAPAN);
+        assertEquals(Locale.JAPAN, bundle.getLocale());
+        assertEquals("i18n.sample", bundle.getBaseBundleName());
+        assertEquals("日本", bundle.getString("Region"));
+        assertEquals("こんにちは", bundle.getString("Greet"));
+        assertEquals("👋", bundle.getString("Emoji"));
+        assertEquals("Localize", bundle.getString("Brand"));
+        assertTrue(bundle.containsKey("Brand"));
+        assertFalse(bundle.containsKey("Missing"));
+        assertThrows(MissingResourceException.class, () -> bundle.getString("Missing"));
+        assertEquals(Set.of("Region", "Greet", "Emoji", "Brand"), bundle.keySet());
+
+        assertEquals(Locale.ROOT, catalog.getBundle(Locale.GERMANY).getLocale());
+        assertEquals(Set.of(Locale.ROOT, Locale.JAPANESE, Locale.JAPAN), catalog.getLocales());
+        assertEquals(4, catalog.getKeyCount());
+        assertEquals(5, catalog.getValueCount());
+        assertTrue(catalog.getOffHeapSize() > 0);
+    }
+
+    @Test void testNonAsciiKeys() {
+        Map<String, String> values = new HashMap<>();
+        List<String> keys = List.of("キー", "ключ", "clé", "𝄞 key", "key\uD800", "k", "");
+        for (int i = 0; i < keys.size(); i++) {
+            values.put(keys.get(i), "Value " + i);
+        }
+
+        OffHeapCatalog catalog = OffHeapCatalog.builder("sample").put(Locale.ROOT, values).build();
+        ResourceBundle bundle = catalog.getBundle(Locale.ROOT);
+
+        // Including the unpaired surrogate, encoded as with String#getBytes
+        for (int i = 0; i < keys.size(); i++) {
+            assertEquals("Value " + i, bundle.getString(keys.get(i)));
+        }
+        assertFalse(bundle.containsKey("キ"));
+        assertFalse(bundle.containsKey("clé "));
+        assertFalse(bundle.containsKey("𝄞"));
+    }
+
+    @Test void testCache() {
+        OffHeapCatalog uncached = OffHeapCatalog.builder("sample")
+            .put(Locale.ROOT, Map.of("Greet", "Hello"))
+            .build();
+        OffHeapCatalog cached = OffHeapCatalog.builder("sample")
+            .put(Locale.ROOT, Map.of("Greet", "Hello", "Other", "Other"))
+            .cacheSize(16)
+            .build();
+
+        ResourceBundle bundle = cached.getBundle(Locale.ROOT);
+        String value = bundle.getString("Greet");
+        assertSame(value, bundle.getString("Greet"));
+        bundle.getString("Other");
+
+        CacheStatistics statistics = cached.getCacheStatistics();
+        assertEquals(1, statistics.hitCount());
+        assertEquals(2, statistics.missCount());
+        assertEquals(2, statistics.size());
+
+        uncached.getBundle(Locale.ROOT).getString("Greet");
+        assertEquals(CacheStatistics.EMPTY, uncached.getCacheStatistics());
+        assertThrows(IllegalArgumentException.class, () -> OffHeapCatalog.builder("sample").cacheSize(-1));
+    }
+
+    @Test void testConcurrentLookups() throws InterruptedException {
+        Map<String, String> values = new HashMap<>();
+        for (int i = 0; i < 1000; i++) {
+            values.put("Key" + i, "Value " + i);
+        }
+        OffHeapCatalog catalog = OffHeapCatalog.builder("sample").put(Locale.ROOT, values).cacheSize(64).build();
+        ResourceBundle bundle = catalog.getBundle(Locale.ROOT);
+        AtomicInteger mismatches = new AtomicInteger();
+        List<Thread> threads = new ArrayList<>();
+
+        for (int t = 0; t < 8; t++) {
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    int key = (i * 31) % 1000;
+                    if (!bundle.getString("Key" + key).equals("Value " + key)) {
+                        mismatches.incrementAndGet();
+                    }
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(0, mismatches.get());
+    }
+
+    @Test void testLoadedBundles() {
+        OffHeapCatalog catalog = OffHeapCatalog.of("test", List.of(Locale.ROOT, Locale.JAPANESE));
+        Localize localize = Localize.of(Locale.JAPANESE);
+        localize.addBundleProvider(catalog);
+
+        assertEquals("aとbとc", localize.get(TEST_KEY_NAMED).arg("first", "a").arg("middle", "b").arg("last", "c").value());
+
+        localize.setLocale(Locale.ENGLISH);
+        assertEquals("hi", localize.getValue(TEST_KEY_GREET));
+    }
+
+    @Test void testWriteAndMap(@TempDir Path directory) throws IOException {
+        OffHeapCatalog catalog = OffHeapCatalog.builder("i18n.sample")
+            .put(Locale.ROOT, Map.of("Greet", "Hello", "Brand", "Localize"))
+            .put(Locale.JAPANESE, Map.of("Greet", "こんにちは"))
+            .build();
+        Path path = directory.resolve("sample.lcat");
+        catalog.writeTo(path);
+
+        OffHeapCatalog mapped = OffHeapCatalog.map(path);
+        assertEquals(catalog.getOffHeapSize(), Files.size(path));
+        assertEquals(catalog.getOffHeapSize(), mapped.getOffHeapSize());
+        assertEquals("i18n.sample", mapped.getBaseName());
+        assertEquals(Set.of(Locale.ROOT, Locale.JAPANESE), mapped.getLocales());
+        assertEquals("こんにちは", mapped.getBundle(Locale.JAPAN).getString("Greet"));
+        assertEquals("Localize", mapped.getBundle(Locale.JAPAN).getString("Brand"));
+
+        // Replacing the file leaves catalogs mapped prior intact
+        OffHeapCatalog.builder("other").put(Locale.ROOT, Map.of("Other", "value")).build().writeTo(path);
+        assertEquals("Hello", mapped.getBundle(Locale.ROOT).getString("Greet"));
+        assertEquals("value", OffHeapCatalog.map(path).getBundle(Locale.ROOT).getString("Other"));
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(List.of(path), files.toList());
+        }
+    }
+
+    @Test void testMapInvalidFile(@TempDir Path directory) throws IOException {
+        Path path = Files.writeString(directory.resolve("invalid.lcat"), "Not a catalog");
+
+        assertThrows(IllegalArgumentException.class, () -> OffHeapCatalog.map(path));
+        assertThrows(IllegalArgumentException.class, () -> OffHeapCatalog.map(Files.createFile(directory.resolve("empty"))));
+        assertThrows(IOException.class, () -> OffHeapCatalog.map(directory.resolve("missing")));
+        assertThrows(NullPointerException.class, () -> OffHeapCatalog.map(null));
+    }
+
+    @Test void testEmptyCatalog() {
+        OffHeapCatalog catalog = OffHeapCatalog.builder("sample").build();
+
+        assertEquals(0, catalog.getKeyCount());
+        assertEquals(Set.of(), catalog.getLocales());
+        assertThrows(MissingResourceException.class, () -> catalog.getBundle(Locale.ROOT));
+    }
+}
@@ -0,0 +1,157 @@
+package com.devinsterling.localize.test;
+
+import com.devinsterling.localize.Localize;
+import com.devinsterling.localize.LocalizeConfig;
+import com.devinsterling.localize.ResourceBundleProvider;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ListResourceBundle;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import static com.devinsterling.localize.test.TestUtil.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BundleSnapshotTest {
+    @TempDir private Path directory;
+
+    @Test void testWarmStart() throws IOException {
+        AtomicInteger loads = new AtomicInteger();
+        ResourceBundleProvider provider = getCountingProvider(loads, new AtomicReference<>("v1"));
+
+        Localize localize = createInstance(getSnapshotConfig(directory), provider);
+        localize.setLocale(Locale.JAPANESE);
+        assertEquals(2, loads.get());
+        assertEquals(2, getSnapshotCount());
+
+        // A later instance restores both locales without loading
+        Localize restarted = createInstance(getSnapshotConfig(directory), provider);
+        assertEquals("hi", restarted.getValue(TEST_KEY_GREET));
+        restarted.setLocale(Locale.JAPANESE);
+        assertEquals("おはよう", restarted.getValue(TEST_KEY_GREET));
+        assertEquals("aとbとc", restarted.get(TEST_KEY_NAMED).arg("first", "a").arg("middle", "b").arg("last", "c").value());
+        assertEquals(2, loads.get());
+    }
+
+    @Test void testChangedFingerprint() throws IOException {
+        AtomicInteger loads = new AtomicInteger();
+        AtomicReference<String> fingerprint = new AtomicReference<>("v1");
+        ResourceBundleProvider provider = getCountingProvider(loads, fingerprint);
+
+        createInstance(getSnapshotConfig(directory), provider);
+        fingerprint.set("v2");
+        Localize localize = createInstance(getSnapshotConfig(directory), provider);
+        assertEquals(2, loads.get());
+        assertEquals("hi", localize.getValue(TEST_KEY_GREET));
+
+        // The snapshot of the previous fingerprint is replaced
+        assertEquals(1, getSnapshotCount());
+        createInstance(getSnapshotConfig(directory), provider);
+        assertEquals(2, loads.get());
+    }
+
+    @Test void testSnapshotPerProviderKey() throws IOException {
+        AtomicInteger loads = new AtomicInteger();
+        ResourceBundleProvider provider = getCountingProvider(loads, new AtomicReference<>("v1"));
+
+        Localize localize = Localize.of(Locale.ENGLISH, getSnapshotConfig(directory));
+        localize.putBundleProvider("first", provider);
+        localize.putBundleProvider("second", provider);
+        assertEquals(2, loads.get());
+        assertEquals(2, getSnapshotCount());
+    }
+
+    @Test void testWithoutFingerprint() throws IOException {
+        Localize localize = Localize.of(Locale.ENGLISH, getSnapshotConfig(directory));
+        localize.putBundleProvider("key", TEST_PROVIDER);
+
+        assertEquals("hi", localize.getValue(TEST_KEY_GREET));
+        assertEquals(0, getSnapshotCount());
+    }
+
+    @Test void testDisabledByDefault() {
+        AtomicInteger loads = new AtomicInteger();
+        ResourceBundleProvider provider = getCountingProvider(loads, new AtomicReference<>("v1"));
+
+        createInstance(new LocalizeConfig(), provider);
+        createInstance(new LocalizeConfig(), provider);
+        assertEquals(2, loads.get());
+    }
+
+    @Test void testNonStringValues() throws IOException {
+        Localize localize = Localize.of(Locale.ENGLISH, getSnapshotConfig(directory));
+        localize.putBundleProvider("key", ResourceBundleProvider.withFingerprint(locale -> new ListResourceBundle() {
+            @Override protected Object[][] getContents() {
+                return new Object[][] {{"Text", "text"}, {"Number", 1}};
+            }
+        }, locale -> "v1"));
+
+        assertEquals("text", localize.getValue("Text"));
+        assertEquals(0, getSnapshotCount());
+    }
+
+    @Test void testCorruptSnapshot() throws IOException {
+        AtomicInteger loads = new AtomicInteger();
+        ResourceBundleProvider provider = getCountingProvider(loads, new AtomicReference<>("v1"));
+        createInstance(getSnapshotConfig(directory), provider);
+
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                Files.writeString(file, "Not a catalog");
+            }
+        }
+
+        Localize localize = createInstance(getSnapshotConfig(directory), provider);
+        assertEquals("hi", localize.getValue(TEST_KEY_GREET));
+        assertEquals(2, loads.get());
+
+        // The corrupt snapshot is rewritten
+        createInstance(getSnapshotConfig(directory), provider);
+        assertEquals(2, loads.get());
+    }
+
+    @Test void testConfig() {
+        assertEquals(directory, getSnapshotConfig(directory).getSnapshotDirectory());
+        assertNull(new LocalizeConfig().getSnapshotDirectory());
+        assertEquals(getSnapshotConfig(directory), getSnapshotConfig(directory));
+        assertEquals(getSnapshotConfig(directory).hashCode(), getSnapshotConfig(directory).hashCode());
+        assertNotEquals(new LocalizeConfig(), getSnapshotConfig(directory));
+
+        assertThrows(NullPointerException.class, () -> ResourceBundleProvider.withFingerprint(null, locale -> ""));
+        assertThrows(NullPointerException.class, () -> ResourceBundleProvider.withFingerprint(TEST_PROVIDER, null));
+        assertNull(TEST_PROVIDER.getFingerprint(Locale.ROOT));
+    }
+
+    private long getSnapshotCount() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
+    private static LocalizeConfig getSnapshotConfig(Path directory) {
+        LocalizeConfig config = new LocalizeConfig();
+        config.setSnapshotDirectory(directory);
+        return config;
+    }
+
+    private static Localize createInstance(LocalizeConfig config, ResourceBundleProvider provider) {
+        Localize localize = Localize.of(Locale.ENGLISH, config);
+        localize.putBundleProvider("key", provider);
+        return localize;
+    }
+
+    private static ResourceBundleProvider getCountingProvider(AtomicInteger loads, AtomicReference<String> fingerprint) {
+        return ResourceBundleProvider.withFingerprint(locale -> {
+            loads.incrementAndGet();
+            return TEST_PROVIDER.getBundle(locale);
+        }, locale -> fingerprint.get());
+    }
+}
@@ -0,0 +1,120 @@
+package com.devinsterling.localize.test;
+
+import com.devinsterling.localize.KeyFilterStatistics;
+import com.devinsterling.localize.LocalizationPipeline;
+import com.devinsterling.localize.LocalizationRequest;
+import com.devinsterling.localize.Localize;
+import com.devinsterling.localize.LocalizeConfig;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ListResourceBundle;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ResourceBundle;
+
+import static com.devinsterling.localize.test.TestUtil.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeyFilterTest {
+    private static final int KEY_COUNT = 10_000;
+
+    @Test void testDisabledByDefault() {
+        Localize localize = getLocalizeInstance();
+        localize.getValue("Missing");
+
+        assertEquals(Map.of(), localize.getKeyFilterStatistics());
+    }
+
+    @Test void testSkipBundles() {
+        Localize localize = getFilteringInstance();
+
+        assertEquals("last", localize.getValue("Last.key"));
+        assertEquals("hi", localize.getValue(TEST_KEY_GREET));
+        assertEquals("aとbとc", localize.forLocale(Locale.JAPANESE).get(TEST_KEY_NAMED)
+                                            .arg("first", "a").arg("middle", "b").arg("last", "c").value());
+        assertEquals("", localize.getValue("Missing"));
+
+        assertEquals("last", localize.get("Last.key").formatTo(new StringBuilder()).toString());
+
+        Map<String, KeyFilterStatistics> statistics = localize.getKeyFilterStatistics();
+        assertEquals(3, statistics.size());
+        assertEquals(KEY_COUNT, statistics.get("large").keyCount());
+        assertTrue(statistics.get("large").byteSize() >= KEY_COUNT * 10 / 8);
+        assertTrue(statistics.get("large").expectedFalsePositiveRate() < 0.01);
+        assertEquals(4, statistics.get("test").keyCount());
+        assertEquals(1, statistics.get("last").keyCount());
+
+        // Each lookup of "Last.key" and "Missing" is ruled out by "test" and most likely by "large"
+        assertTrue(statistics.get("test").rejectionCount() >= 3);
+    }
+
+    @Test void testFalsePositiveRate() {
+        Localize localize = getFilteringInstance();
+
+        for (int i = 0; i < KEY_COUNT; i++) {
+            assertEquals("", localize.getValue("Absent.key" + i));
+        }
+
+        KeyFilterStatistics statistics = localize.getKeyFilterStatistics().get("large");
+        assertEquals(KEY_COUNT, statistics.rejectionCount() + statistics.falsePositiveCount());
+        assertTrue(statistics.falsePositiveRate() < 0.03, () -> "False positive rate of " + statistics);
+    }
+
+    @Test void testCustomResolver() {
+        LocalizeConfig config = new LocalizeConfig();
+        config.setBundleKeyFiltering(true);
+        Localize localize = Localize.of(Locale.ENGLISH, config);
+        localize.putBundleProvider("test", TEST_PROVIDER);
+
+        // Resolving other keys than the requested key must never be affected
+        localize.setProcessor(LocalizationPipeline.builder()
+            .resolver((bundle, request) -> LocalizationPipeline.BUNDLE_RESOLVER.resolve(
+                bundle, request.getKey().equals("Alias.greet") ? LocalizationRequest.Builder.of(TEST_KEY_GREET).build() : request
+            ))
+            .build());
+
+        assertEquals("hi", localize.getValue("Alias.greet"));
+        assertEquals(0, localize.getKeyFilterStatistics().get("test").rejectionCount());
+    }
+
+    @Test void testRefreshRebuilds() {
+        Localize localize = getFilteringInstance();
+        localize.getValue("Last.key");
+        assertEquals(1, localize.getKeyFilterStatistics().get("test").rejectionCount());
+
+        localize.setLocale(Locale.JAPANESE);
+        assertEquals(0, localize.getKeyFilterStatistics().get("test").rejectionCount());
+        assertEquals("おはよう", localize.getValue(TEST_KEY_GREET));
+    }
+
+    /// Searches the providers "test", "large", and "last" in order.
+    private static Localize getFilteringInstance() {
+        LocalizeConfig config = new LocalizeConfig();
+        config.setBundleKeyFiltering(true);
+        Localize localize = Localize.of(Locale.ENGLISH, config);
+
+        localize.putBundleProvider("test", TEST_PROVIDER);
+        localize.putBundleProvider("large", locale -> createBundle(KEY_COUNT));
+        localize.putBundleProvider("last", locale -> new ListResourceBundle() {
+            @Override protected Object[][] getContents() {
+                return new Object[][] {{"Last.key", "last"}};
+            }
+        });
+        return localize;
+    }
+
+    private static ResourceBundle createBundle(int keyCount) {
+        Object[][] contents = new Object[keyCount][];
+        for (int i = 0; i < keyCount; i++) {
+            contents[i] = new Object[] {"Large.key" + i, "Value " + i};
+        }
+
+        return new ListResourceBundle() {
+            @Override protected Object[][] getContents() {
+                return contents;
+            }
+        };
+    }
+}
@@ -0,0 +1,139 @@
+package com.devinsterling.localize.test;
+
+import com.devinsterling.localize.LocalizationPipeline;
+import com.devinsterling.localize.Localize;
+import com.devinsterling.localize.LocalizeConfig;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ListResourceBundle;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeyOwnerCacheTest {
+    private static final int PROVIDER_COUNT = 10;
+
+    @Test void testDisabledByDefault() {
+        AtomicInteger searches = new AtomicInteger();
+        Localize localize = createInstance(new LocalizeConfig(), searches);
+
+        assertEquals("last", localize.getValue("Last.key"));
+        assertEquals("last", localize.getValue("Last.key"));
+        assertEquals(2 * PROVIDER_COUNT, searches.get());
+    }
+
+    @Test void testRememberOwners() {
+        AtomicInteger searches = new AtomicInteger();
+        Localize localize = createInstance(getCachingConfig(100), searches);
+
+        assertEquals("last", localize.getValue("Last.key"));
+        assertEquals(PROVIDER_COUNT, searches.get());
+
+        // Only the remembered owner is searched
+        searches.set(0);
+        assertEquals("last", localize.getValue("Last.key"));
+        assertEquals("last", localize.get("Last.key").formatTo(new StringBuilder()).toString());
+        assertEquals(2, searches.get());
+
+        // Keys without an owner are not searched again
+        assertEquals("", localize.getValue("Missing"));
+        searches.set(0);
+        assertEquals("", localize.getValue("Missing"));
+        assertEquals("default", localize.get("Missing").defaultValue("default").value());
+        assertEquals(0, searches.get());
+    }
+
+    @Test void testFirstMatchWins() {
+        AtomicInteger searches = new AtomicInteger();
+        Localize localize = createInstance(getCachingConfig(100), searches);
+
+        // The first provider also defines "Shared", so always wins
+        assertEquals("0", localize.getValue("Shared"));
+        assertEquals("0", localize.getValue("Shared"));
+        assertEquals(2, searches.get());
+
+        // Changing providers forgets all owners
+        localize.putBundleProvider("provider0", locale -> new CountingBundle(searches, "Other", "0"));
+        assertEquals("1", localize.getValue("Shared"));
+        localize.putBundleProvider("provider0", locale -> new CountingBundle(searches, "Shared", "new"));
+        assertEquals("new", localize.getValue("Shared"));
+    }
+
+    @Test void testSizeLimit() {
+        AtomicInteger searches = new AtomicInteger();
+        Localize localize = createInstance(getCachingConfig(1), searches);
+
+        localize.getValue("Last.key");
+        localize.getValue("Missing");
+        searches.set(0);
+
+        localize.getValue("Last.key");
+        localize.getValue("Missing");
+        assertEquals(1 + PROVIDER_COUNT, searches.get());
+    }
+
+    @Test void testCustomResolver() {
+        AtomicInteger searches = new AtomicInteger();
+        Localize localize = createInstance(getCachingConfig(100), searches);
+        localize.setProcessor(LocalizationPipeline.builder()
+            .resolver(LocalizationPipeline.BUNDLE_RESOLVER::resolve)
+            .build());
+
+        localize.getValue("Last.key");
+        localize.getValue("Last.key");
+        assertEquals(2 * PROVIDER_COUNT, searches.get());
+    }
+
+    @Test void testExceptions() {
+        assertThrows(IllegalArgumentException.class, () -> new LocalizeConfig().setKeyOwnerCacheSize(-1));
+
+        LocalizeConfig config = getCachingConfig(10);
+        assertEquals(10, config.getKeyOwnerCacheSize());
+        assertNotEquals(new LocalizeConfig(), config);
+    }
+
+    private static LocalizeConfig getCachingConfig(int size) {
+        LocalizeConfig config = new LocalizeConfig();
+        config.setKeyOwnerCacheSize(size);
+        return config;
+    }
+
+    /// Every provider defines "Shared", while only the last defines "Last.key".
+    private static Localize createInstance(LocalizeConfig config, AtomicInteger searches) {
+        Localize localize = Localize.of(Locale.ENGLISH, config);
+
+        for (int i = 0; i < PROVIDER_COUNT; i++) {
+            String value = String.valueOf(i);
+            boolean isLast = i == PROVIDER_COUNT - 1;
+            localize.putBundleProvider("provider" + i, locale -> isLast
+                ? new CountingBundle(searches, "Shared", value, "Last.key", "last")
+                : new CountingBundle(searches, "Shared", value));
+        }
+        return localize;
+    }
+
+    /// Bundle counting each search of a key.
+    private static final class CountingBundle extends ListResourceBundle {
+        private final AtomicInteger searches;
+        private final Object[][] contents;
+
+        private CountingBundle(AtomicInteger searches, String... contents) {
+            this.searches = searches;
+            this.contents = new Object[contents.length / 2][];
+            for (int i = 0; i < contents.length; i += 2) {
+                this.contents[i / 2] = new Object[] { contents[i], contents[i + 1] };
+            }
+        }
+
+        @Override public boolean containsKey(String key) {
+            searches.incrementAndGet();
+            return super.containsKey(key);
+        }
+
+        @Override protected Object[][] getContents() {
+            return contents;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.devinsterling.localize.test;
+
+import com.devinsterling.localize.LocaleScope;
+import com.devinsterling.localize.Localize;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.devinsterling.localize.test.TestUtil.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocaleScopeTest {
+
+    @Test void testBindLocale() {
+        Localize localize = getLocalizeInstance();
+        assertNull(localize.getScopedLocale());
+
+        try (LocaleScope scope = localize.bindLocale(Locale.JAPANESE)) {
+            assertEquals(Locale.JAPANESE, scope.getLocale());
+            assertEquals(Locale.JAPANESE, localize.getScopedLocale());
+            assertEquals("おはよう", localize.getValue(TEST_KEY_GREET));
+            assertEquals("テスト", localize.get(TEST_KEY_TEST).value());
+
+            // The current locale is unaffected
+            assertEquals(Locale.ENGLISH, localize.getLocale());
+        }
+
+        assertNull(localize.getScopedLocale());
+        assertEquals("hi", localize.getValue(TEST_KEY_GREET));
+    }
+
+    @Test void testNestedScopes() {
+        Localize localize = getLocalizeInstance();
+
+        try (LocaleScope ignored = localize.bindLocale(Locale.JAPANESE)) {
+            try (LocaleScope ignoredInner = localize.bindLocale(Locale.CHINESE)) {
+                assertEquals("早上好", localize.getValue(TEST_KEY_GREET));
+            }
+            assertEquals("おはよう", localize.getValue(TEST_KEY_GREET));
+        }
+        assertEquals("hi", localize.getValue(TEST_KEY_GREET));
+    }
+
+    @Test void testRunAndCallWithLocale() {
+        Localize localize = getLocalizeInstance();
+        AtomicReference<String> value = new AtomicReference<>();
+
+        localize.runWithLocale(Locale.CHINESE, () -> value.set(localize.getValue(TEST_KEY_GREET)));
+        assertEquals("早上好", value.get());
+        assertEquals("おはよう", localize.callWithLocale(Locale.JAPANESE, () -> localize.getValue(TEST_KEY_GREET)));
+        assertNull(localize.getScopedLocale());
+    }
+
+    @Test void testScopeIsThreadBound() throws InterruptedException {
+        Localize localize = getLocalizeInstance();
+        AtomicReference<String> value = new AtomicReference<>();
+
+        try (LocaleScope ignored = localize.bindLocale(Locale.JAPANESE)) {
+            Thread thread = new Thread(() -> value.set(localize.getValue(TEST_KEY_GREET)));
+            thread.start();
+            thread.join();
+        }
+
+        assertEquals("hi", value.get());
+    }
+
+    @Test void testScopeIsInstanceBound() {
+        Localize localize = getLocalizeInstance();
+        Localize other = getLocalizeInstance();
+
+        try (LocaleScope ignored = localize.bindLocale(Locale.JAPANESE)) {
+            assertEquals("hi", other.getValue(TEST_KEY_GREET));
+        }
+    }
+
+    @Test void testCloseOnOtherThread() throws InterruptedException {
+        Localize localize = getLocalizeInstance();
+        AtomicReference<Throwable> thrown = new AtomicReference<>();
+
+        try (LocaleScope scope = localize.bindLocale(Locale.JAPANESE)) {
+            Thread thread = new Thread(() -> {
+                try {
+                    scope.close();
+                } catch (Throwable e) {
+                    thrown.set(e);
+                }
+            });
+            thread.start();
+            thread.join();
+        }
+
+        assertInstanceOf(IllegalStateException.class, thrown.get());
+        assertNull(localize.getScopedLocale());
+    }
+
+    @Test void testExceptions() {
+        Localize localize = Localize.of();
+
+        assertThrows(NullPointerException.class, () -> localize.bindLocale(null));
+        assertThrows(NullPointerException.class, () -> localize.runWithLocale(Locale.ENGLISH, null));
+        assertThrows(NullPointerException.class, () -> localize.callWithLocale(null, () -> ""));
+        assertNull(localize.getScopedLocale());
+    }
+}
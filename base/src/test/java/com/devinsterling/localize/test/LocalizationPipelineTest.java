@@ -0,0 +1,186 @@
+package com.devinsterling.localize.test;
+
+import com.devinsterling.localize.LocalizationPipeline;
+import com.devinsterling.localize.Localize;
+import com.devinsterling.localize.ResolvedPattern;
+
+import com.ibm.icu.util.TimeZone;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ResourceBundle;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.devinsterling.localize.test.TestUtil.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocalizationPipelineTest {
+
+    @Test void testDefaultPipeline() {
+        Localize localize = getLocalizeInstance();
+        localize.setProcessor(LocalizationPipeline.builder().build());
+
+        assertEquals("hi", localize.getValue(TEST_KEY_GREET));
+        assertEquals("c and a and b", localize.get(TEST_KEY_NUMBERED).args("a", "b", "c").value());
+        assertEquals("", localize.getValue("Missing Key"));
+    }
+
+    @Test void testStagesReceiveOrigin() {
+        Localize localize = getLocalizeInstance();
+        localize.putBundleProvider("key2", TEST2_PROVIDER);
+        List<ResolvedPattern> patterns = new ArrayList<>();
+
+        localize.setProcessor(LocalizationPipeline.builder()
+            .stage((pattern, request, next) -> {
+                patterns.add(pattern);
+                return next.proceed(pattern, request);
+            })
+            .build());
+
+        assertEquals("hi", localize.getValue(TEST_KEY_GREET));
+        assertEquals(1, patterns.size());
+        assertEquals(TEST_KEY_GREET, patterns.get(0).key());
+        assertEquals("hi", patterns.get(0).pattern());
+        assertSame(ResourceBundle.getBundle("test", localize.getLocale()), patterns.get(0).bundle());
+    }
+
+    @Test void testStageOrder() {
+        Localize localize = getLocalizeInstance();
+        localize.setProcessor(LocalizationPipeline.builder()
+            .postProcess(value -> value + "1")
+            .stage((pattern, request, next) -> next.proceed(pattern.withPattern(pattern.pattern() + "!"), request))
+            .postProcess(value -> value + "2")
+            .build());
+
+        assertEquals("hi!21", localize.getValue(TEST_KEY_GREET));
+    }
+
+    @Test void testShortCircuitByPatternIdentity() {
+        Localize localize = getLocalizeInstance();
+        AtomicInteger formats = new AtomicInteger();
+        Map<String, String> cache = new IdentityHashMap<>();
+
+        localize.setProcessor(LocalizationPipeline.builder()
+            .stage((pattern, request, next) -> request.hasArguments()
+                                               ? next.proceed(pattern, request)
+                                               : cache.computeIfAbsent(pattern.pattern(), p -> next.proceed(pattern, request)))
+            .formatter((pattern, request) -> {
+                formats.incrementAndGet();
+                return LocalizationPipeline.MESSAGE_FORMATTER.format(pattern, request);
+            })
+            .build());
+
+        assertEquals("hi", localize.getValue(TEST_KEY_GREET));
+        assertEquals("hi", localize.getValue(TEST_KEY_GREET));
+        assertEquals(1, formats.get());
+    }
+
+    @Test void testNullContinuesWithNextBundle() {
+        Localize localize = getLocalizeInstance();
+        localize.putBundleProvider("key2", TEST2_PROVIDER);
+        localize.setProcessor(LocalizationPipeline.builder()
+            .stage((pattern, request, next) -> pattern.bundle().getBaseBundleName().equals("test")
+                                               ? null
+                                               : next.proceed(pattern, request))
+            .build());
+
+        assertEquals(
+            ResourceBundle.getBundle("test2", localize.getLocale()).getString(TEST_KEY_GREET),
+            localize.getValue(TEST_KEY_GREET)
+        );
+    }
+
+    @Test void testCustomResolver() {
+        Localize localize = getLocalizeInstance();
+        localize.setProcessor(LocalizationPipeline.builder()
+            .resolver((bundle, request) -> new ResolvedPattern(request.getKey(), "{0}!", bundle))
+            .build());
+
+        assertEquals("hey!", localize.get("Any").arg("hey").value());
+    }
+
+    @Test void testPooledFormattersConcurrently() throws InterruptedException {
+        Localize localize = getLocalizeInstance();
+        List<Thread> threads = new ArrayList<>();
+        AtomicInteger mismatches = new AtomicInteger();
+
+        for (int t = 0; t < 8; t++) {
+            String name = "Thread " + t;
+            Thread thread = new Thread(() -> {
+                // Below 1000 to avoid grouping separators
+                for (int i = 0; i < 1000; i++) {
+                    String value = localize.get(TEST_KEY_NUMBERED).arg(i).arg(name).arg("c").value();
+                    if (!value.equals("c and " + i + " and " + name)) {
+                        mismatches.incrementAndGet();
+                    }
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(0, mismatches.get());
+    }
+
+    @Test void testPooledFormattersFollowDefaultLocale() {
+        Localize localize = getLocalizeInstance();
+        Locale defaultLocale = Locale.getDefault();
+
+        try {
+            Locale.setDefault(Locale.US);
+            assertEquals("c and 1,234.5 and b", localize.get(TEST_KEY_NUMBERED).arg(1234.5).arg("b").arg("c").value());
+
+            Locale.setDefault(Locale.GERMANY);
+            assertEquals("c and 1.234,5 and b", localize.get(TEST_KEY_NUMBERED).arg(1234.5).arg("b").arg("c").value());
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test void testPooledFormattersFollowDefaultTimeZone() {
+        Localize localize = getLocalizeInstance();
+        TimeZone defaultTimeZone = TimeZone.getDefault();
+        Date date = new Date(0);
+
+        try {
+            // Untyped date arguments are formatted in the default time zone as well
+            TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+            String utc = localize.get(TEST_KEY_NUMBERED).arg(date).arg("b").arg("c").value();
+
+            // Repeated to cycle through all idle instances of the pattern
+            TimeZone.setDefault(TimeZone.getTimeZone("Asia/Tokyo"));
+            String tokyo = localize.get(TEST_KEY_NUMBERED).arg(date).arg("b").arg("c").value();
+            assertNotEquals(utc, tokyo);
+            for (int i = 0; i < 10; i++) {
+                assertEquals(tokyo, localize.get(TEST_KEY_NUMBERED).arg(date).arg("b").arg("c").value());
+            }
+
+            TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+            for (int i = 0; i < 10; i++) {
+                assertEquals(utc, localize.get(TEST_KEY_NUMBERED).arg(date).arg("b").arg("c").value());
+            }
+        } finally {
+            TimeZone.setDefault(defaultTimeZone);
+        }
+    }
+
+    @Test void testExceptions() {
+        LocalizationPipeline.Builder builder = LocalizationPipeline.builder();
+
+        assertThrows(NullPointerException.class, () -> builder.stage(null));
+        assertThrows(NullPointerException.class, () -> builder.postProcess(null));
+        assertThrows(NullPointerException.class, () -> builder.resolver(null));
+        assertThrows(NullPointerException.class, () -> builder.formatter(null));
+        assertThrows(NullPointerException.class, () -> new ResolvedPattern("key", null, null));
+    }
+}
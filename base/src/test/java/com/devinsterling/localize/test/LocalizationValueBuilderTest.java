@@ -2,11 +2,22 @@ package com.devinsterling.localize.test;
 
 import com.devinsterling.localize.LocalizationValueBuilder;
 import com.devinsterling.localize.Localize;
+import com.devinsterling.localize.LocalizeConfig;
 
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.charset.StandardCharsets;
+import java.util.ListResourceBundle;
 import java.util.Locale;
 import java.util.Map;
+import java.util.ResourceBundle;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 import static com.devinsterling.localize.test.TestUtil.*;
@@ -90,6 +101,122 @@ class LocalizationValueBuilderTest {
         assertEquals("hi", localize.get(TEST_KEY_GREET).defaultValue(defaultValue).value());
     }
 
+    @Test void testFormatTo() {
+        Localize localize = getLocalizeInstance();
+        StringBuilder builder = new StringBuilder("> ");
+
+        localize.get(TEST_KEY_GREET).formatTo(builder).append(", ");
+        localize.get(TEST_KEY_NUMBERED).args("Oranges", "Strawberries", "Apples").formatTo(builder).append('|');
+        localize.get("doesn't exist").defaultValue("default").formatTo(builder);
+        localize.forLocale(Locale.JAPANESE).get(TEST_KEY_GREET).formatTo(builder);
+
+        assertEquals("> hi, Apples and Oranges and Strawberries|defaultおはよう", builder.toString());
+        assertEquals(localize.get(TEST_KEY_TEST).value(), localize.get(TEST_KEY_TEST).formatTo(new StringBuffer()).toString());
+    }
+
+    @Test void testFormatToIgnoringExceptions() {
+        LocalizeConfig config = new LocalizeConfig();
+        config.setIgnoreProcessingExceptions(true);
+        Localize localize = Localize.of(Locale.ENGLISH, config);
+        localize.putBundleProvider("broken", locale -> createBundle("Count", "Count: {n, number}"));
+        localize.putBundleProvider("fallback", locale -> createBundle("Count", "Fallback {n}"));
+
+        // Formatting fails midway through the first bundle, which must not leave a partial value behind
+        String value = localize.get("Count").arg("n", "text").value();
+        assertEquals("Fallback text", value);
+        assertEquals("> " + value, localize.get("Count").arg("n", "text").formatTo(new StringBuffer("> ")).toString());
+        assertEquals("> " + value, localize.get("Count").arg("n", "text").formatTo(new StringBuilder("> ")).toString());
+
+        localize.removeBundleProvider("fallback");
+        assertEquals("default", localize.get("Count").arg("n", "text").defaultValue("default").value());
+        assertEquals("default", localize.get("Count").arg("n", "text").defaultValue("default")
+                                        .formatTo(new StringBuffer()).toString());
+    }
+
+    @Test void testFormatToWithCustomProcessor() {
+        Localize localize = getLocalizeInstance();
+        localize.setProcessor((bundle, request) -> "custom");
+
+        assertEquals("custom", localize.get(TEST_KEY_GREET).formatTo(new StringBuilder()).toString());
+    }
+
+    @Test void testFormatToExceptions() {
+        Localize localize = getLocalizeInstance();
+        Writer writer = new Writer() {
+            @Override public void write(char[] buffer, int offset, int length) throws IOException {
+                throw new IOException("closed");
+            }
+
+            @Override public void flush() {}
+
+            @Override public void close() {}
+        };
+
+        assertThrows(NullPointerException.class, () -> localize.get(TEST_KEY_GREET).formatTo(null));
+        assertThrows(UncheckedIOException.class, () -> localize.get(TEST_KEY_GREET).formatTo(writer));
+    }
+
+    @Test void testEncodedValue() {
+        Localize localize = getLocalizeInstance();
+        localize.setLocale(Locale.JAPANESE);
+
+        assertEquals(
+            ByteBuffer.wrap("おはよう".getBytes(StandardCharsets.UTF_8)),
+            localize.get(TEST_KEY_GREET).encodedValue());
+        assertEquals(
+            ByteBuffer.wrap("ApplesとOrangesとStrawberries".getBytes(StandardCharsets.UTF_8)),
+            localize.get(TEST_KEY_NUMBERED).args("Oranges", "Strawberries", "Apples").encodedValue());
+        assertEquals(
+            ByteBuffer.wrap("default".getBytes(StandardCharsets.UTF_8)),
+            localize.get("doesn't exist").defaultValue("default").encodedValue());
+        assertTrue(localize.get(TEST_KEY_GREET).encodedValue().isReadOnly());
+    }
+
+    @Test void testEncodeTo() {
+        Localize localize = getLocalizeInstance();
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+
+        localize.get(TEST_KEY_GREET).encodeTo(buffer);
+        localize.forLocale(Locale.CHINESE).get(TEST_KEY_GREET).encodeTo(buffer);
+        buffer.flip();
+
+        assertEquals("hi早上好", StandardCharsets.UTF_8.decode(buffer).toString());
+    }
+
+    @Test void testEncodedValuesAreReused() {
+        Localize localize = getLocalizeInstance();
+        AtomicInteger calls = new AtomicInteger();
+        localize.setProcessor((bundle, request) -> {
+            calls.incrementAndGet();
+            return Localize.DEFAULT_PROCESSOR.process(bundle, request);
+        });
+
+        localize.get(TEST_KEY_GREET).encodedValue();
+        localize.get(TEST_KEY_GREET).encodedValue();
+        assertEquals(1, calls.get());
+
+        // Encoded again for the bundles of another locale
+        localize.setLocale(Locale.JAPANESE);
+        assertEquals(
+            ByteBuffer.wrap("おはよう".getBytes(StandardCharsets.UTF_8)),
+            localize.get(TEST_KEY_GREET).encodedValue());
+        assertEquals(2, calls.get());
+
+        // Discarded once the processor changes
+        localize.setProcessor((bundle, request) -> "custom");
+        assertEquals(ByteBuffer.wrap("custom".getBytes(StandardCharsets.UTF_8)), localize.get(TEST_KEY_GREET).encodedValue());
+    }
+
+    @Test void testEncodeToExceptions() {
+        Localize localize = getLocalizeInstance();
+
+        assertThrows(NullPointerException.class, () -> localize.get(TEST_KEY_GREET).encodeTo(null));
+        assertThrows(BufferOverflowException.class, () -> localize.get(TEST_KEY_GREET).encodeTo(ByteBuffer.allocate(1)));
+        assertThrows(
+            ReadOnlyBufferException.class,
+            () -> localize.get(TEST_KEY_GREET).encodeTo(ByteBuffer.allocate(8).asReadOnlyBuffer()));
+    }
+
     @Test void testExceptionsFromArguments() {
         Localize localize = Localize.of();
 
@@ -131,6 +258,14 @@ class LocalizationValueBuilderTest {
         assertEquals("test_default_value", builder.getDefaultValue());
         assertEquals(Map.of("key1", "value1", "key2", "value2"), builder.getArguments());
     }
+
+    private static ResourceBundle createBundle(String key, String value) {
+        return new ListResourceBundle() {
+            @Override protected Object[][] getContents() {
+                return new Object[][] {{key, value}};
+            }
+        };
+    }
 }
 
 class TestValueBuilder<B extends TestValueBuilder<B>> extends LocalizationValueBuilder<B> {
@@ -0,0 +1,208 @@
+package com.devinsterling.localize.test;
+
+import com.devinsterling.localize.Localize;
+import com.devinsterling.localize.ResourceBundleProvider;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/// Stress suite of lookups racing locale changes, refreshes, and provider changes.
+///
+/// Admin threads change the locale, refresh versioned bundles, and register providers while
+/// reader threads retrieve values, checking that:
+/// - Readers never observe bundles of different locales at once.
+/// - No provider registration is lost.
+/// - Once all threads complete, no bundle is stale.
+///
+/// Throughput of both readers and admin threads is reported to compare concurrency changes.
+/// Runs briefly with the regular tests, and at length through `./gradlew :Localize:stress`.
+@Tag("stress")
+class LocalizeConcurrencyTest {
+    private static final String PROPERTY_PREFIX = "localize.stress.";
+    private static final int ROUNDS = Integer.getInteger(PROPERTY_PREFIX + "rounds", 200);
+    private static final int READERS = Integer.getInteger(PROPERTY_PREFIX + "readers", 16);
+    private static final List<Locale> LOCALES = List.of(Locale.ENGLISH, Locale.JAPANESE, Locale.GERMAN, Locale.KOREAN);
+    private static final String KEY_LOCALE = "Stress.locale";
+    private static final String KEY_GENERATION = "Stress.generation";
+    private static final String KEY_PROVIDER_PREFIX = "Stress.provider.";
+
+    @Test void testConcurrentLookups() throws InterruptedException {
+        Localize localize = Localize.of(Locale.ENGLISH);
+        AtomicInteger generation = new AtomicInteger();
+        localize.putBundleProvider("versioned", locale -> new StressBundle(locale, Map.of(
+            KEY_LOCALE, locale.toLanguageTag(),
+            KEY_GENERATION, String.valueOf(generation.get())
+        )));
+
+        Set<String> localeTags = ConcurrentHashMap.newKeySet();
+        LOCALES.forEach(locale -> localeTags.add(locale.toLanguageTag()));
+
+        AtomicBoolean isRunning = new AtomicBoolean(true);
+        Collection<Throwable> failures = new ConcurrentHashMap<Throwable, Boolean>().keySet(true);
+        LongAdder lookups = new LongAdder();
+        LongAdder adminOperations = new LongAdder();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> readers = new ArrayList<>();
+        List<Thread> admins = new ArrayList<>();
+
+        for (int i = 0; i < READERS; i++) {
+            readers.add(startThread(start, failures, () -> {
+                while (isRunning.get()) {
+                    // A single snapshot must only contain bundles of one locale
+                    Locale observed = null;
+                    for (ResourceBundle bundle : localize.getResourceBundles()) {
+                        if (observed == null) observed = bundle.getLocale();
+                        assertEquals(observed, bundle.getLocale(), "Mixed-locale bundles");
+                    }
+
+                    String tag = localize.getValue(KEY_LOCALE);
+                    assertTrue(localeTags.contains(tag), () -> "Unexpected value " + tag);
+                    localize.getValue(KEY_GENERATION);
+                    lookups.add(2);
+                }
+            }));
+        }
+
+        admins.add(startThread(start, failures, () -> {
+            for (int i = 0; i < ROUNDS; i++) {
+                localize.setLocale(LOCALES.get(i % LOCALES.size()));
+                adminOperations.increment();
+            }
+        }));
+        admins.add(startThread(start, failures, () -> {
+            for (int i = 0; i < ROUNDS; i++) {
+                generation.incrementAndGet();
+                localize.refresh();
+                adminOperations.increment();
+            }
+        }));
+        admins.add(startThread(start, failures, () -> {
+            for (int i = 0; i < ROUNDS; i++) {
+                String key = KEY_PROVIDER_PREFIX + i;
+                localize.putBundleProvider(key, locale -> new StressBundle(locale, Map.of(key, key)));
+                adminOperations.increment();
+            }
+        }));
+
+        long startNanos = System.nanoTime();
+        start.countDown();
+        for (Thread admin : admins) {
+            admin.join();
+        }
+        isRunning.set(false);
+        for (Thread reader : readers) {
+            reader.join();
+        }
+        double seconds = (System.nanoTime() - startNanos) / 1e9;
+
+        System.out.printf(
+            "%d readers, %d rounds: %,.0f lookups/s, %,.0f admin operations/s%n",
+            READERS, ROUNDS, lookups.sum() / seconds, adminOperations.sum() / seconds
+        );
+        assertEquals(List.of(), new ArrayList<>(failures));
+
+        // Quiescent, so every bundle must reflect the last locale and the last generation
+        Locale last = LOCALES.get((ROUNDS - 1) % LOCALES.size());
+        assertEquals(last, localize.getLocale());
+        for (ResourceBundle bundle : localize.getResourceBundles()) {
+            assertEquals(last, bundle.getLocale());
+        }
+        assertEquals(last.toLanguageTag(), localize.getValue(KEY_LOCALE));
+        assertEquals(String.valueOf(generation.get()), localize.getValue(KEY_GENERATION));
+
+        assertEquals(ROUNDS + 1, localize.getResourceBundles().size());
+        assertEquals(ROUNDS, localize.getKeys(KEY_PROVIDER_PREFIX).size());
+        for (int i = 0; i < ROUNDS; i++) {
+            assertEquals(KEY_PROVIDER_PREFIX + i, localize.getValue(KEY_PROVIDER_PREFIX + i));
+        }
+    }
+
+    @Test void testConcurrentRegistrations() throws InterruptedException {
+        Localize localize = Localize.of(Locale.ENGLISH);
+        Collection<Throwable> failures = new ConcurrentHashMap<Throwable, Boolean>().keySet(true);
+        Set<String> keys = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+
+        for (int i = 0; i < READERS; i++) {
+            threads.add(startThread(start, failures, () -> {
+                for (int j = 0; j < ROUNDS; j++) {
+                    ResourceBundleProvider provider = locale -> new StressBundle(locale, Map.of());
+                    String key = localize.addBundleProvider(provider);
+                    keys.add(key);
+
+                    // Removing every other provider interleaves removals with registrations
+                    if (j % 2 == 0) {
+                        assertTrue(localize.removeBundleProvider(key));
+                        keys.remove(key);
+                    }
+                }
+            }));
+        }
+
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(List.of(), new ArrayList<>(failures));
+        assertEquals(READERS * (ROUNDS / 2), keys.size());
+        assertEquals(keys.size(), localize.getResourceBundles().size());
+        for (String key : keys) {
+            assertTrue(localize.refresh(key), () -> "Lost provider " + key);
+        }
+    }
+
+    private static Thread startThread(CountDownLatch start, Collection<Throwable> failures, Runnable action) {
+        Thread thread = new Thread(() -> {
+            try {
+                start.await();
+                action.run();
+            } catch (Throwable e) {
+                failures.add(e);
+            }
+        });
+        thread.start();
+        return thread;
+    }
+
+    /// Bundle of fixed values reporting the locale it was loaded for.
+    private static final class StressBundle extends ResourceBundle {
+        private final Locale locale;
+        private final Map<String, String> values;
+
+        private StressBundle(Locale locale, Map<String, String> values) {
+            this.locale = locale;
+            this.values = values;
+        }
+
+        @Override public Locale getLocale() {
+            return locale;
+        }
+
+        @Override protected Object handleGetObject(String key) {
+            return values.get(key);
+        }
+
+        @Override public Enumeration<String> getKeys() {
+            return Collections.enumeration(values.keySet());
+        }
+    }
+}
@@ -6,9 +6,13 @@ import com.devinsterling.localize.ResourceBundleProvider;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.ListResourceBundle;
 import java.util.Locale;
 import java.util.MissingResourceException;
 import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.devinsterling.localize.test.TestUtil.*;
 
@@ -33,6 +37,15 @@ class LocalizeConfigTest {
         assertNotEquals(config1.hashCode(), config2.hashCode());
     }
 
+    @Test public void testLocalizeConfigFlattenEquality() {
+        LocalizeConfig config1 = new LocalizeConfig();
+        LocalizeConfig config2 = new LocalizeConfig();
+        config2.setFlattenResourceBundles(true);
+
+        assertNotEquals(config1, config2);
+        assertTrue(config2.isFlattenResourceBundles());
+    }
+
     @Test public void testLocalizeConfigNullEquality() {
         LocalizeConfig config = new LocalizeConfig();
         assertNotEquals(null, config);
@@ -90,5 +103,147 @@ class LocalizeConfigTest {
         assertDoesNotThrow(() -> localize.getValue(TEST_KEY_GREET));
     }
 
+    @Test void testFlattenResourceBundles() {
+        LocalizeConfig config = new LocalizeConfig();
+        Localize localize = Localize.of(Locale.forLanguageTag("zh-Hant-TW"), config);
+        ResourceBundle root = new TestBundle(null, Locale.ROOT, "Test.root", "root", "Test.greet", "hi");
+        ResourceBundle zh = new TestBundle(root, Locale.CHINESE, "Test.zh", "zh", "Test.greet", "早上好");
+        ResourceBundle zhHant = new TestBundle(zh, Locale.forLanguageTag("zh-Hant"), "Test.zhHant", "zhHant");
+
+        config.setFlattenResourceBundles(true);
+        localize.putBundleProvider("provider", locale -> zhHant);
+
+        ResourceBundle bundle = localize.getResourceBundles().iterator().next();
+        assertNotSame(zhHant, bundle);
+        assertEquals(zhHant.getLocale(), bundle.getLocale());
+        assertEquals(Set.of("Test.root", "Test.zh", "Test.zhHant", "Test.greet"), bundle.keySet());
+
+        // Values resolve from the most specific bundle
+        assertEquals("早上好", localize.getValue("Test.greet"));
+        assertEquals("root", localize.getValue("Test.root"));
+        assertEquals("zh", localize.getValue("Test.zh"));
+        assertEquals("zhHant", localize.getValue("Test.zhHant"));
+        assertEquals("", localize.getValue("missing"));
+
+        config.setFlattenResourceBundles(false);
+        localize.refresh();
+        assertSame(zhHant, localize.getResourceBundles().iterator().next());
+        assertEquals("早上好", localize.getValue("Test.greet"));
+    }
+
+    @Test void testLazyBundleLoading() {
+        LocalizeConfig config = new LocalizeConfig();
+        Localize localize = Localize.of(Locale.ENGLISH, config);
+        AtomicInteger loads = new AtomicInteger();
+        AtomicInteger fallbackLoads = new AtomicInteger();
+
+        config.setLazyBundleLoading(true);
+        localize.putBundleProvider("key", locale -> {
+            loads.incrementAndGet();
+            return TEST_PROVIDER.getBundle(locale);
+        });
+        localize.putBundleProvider("fallback", locale -> {
+            fallbackLoads.incrementAndGet();
+            return TEST2_PROVIDER.getBundle(locale);
+        });
+        assertEquals(0, loads.get());
+
+        // Only providers reached by a lookup are loaded
+        assertEquals("hi", localize.getValue(TEST_KEY_GREET));
+        assertEquals("test", localize.getValue(TEST_KEY_TEST));
+        assertEquals(1, loads.get());
+        assertEquals(0, fallbackLoads.get());
+
+        localize.setLocale(Locale.JAPANESE);
+        assertEquals(1, loads.get());
+        assertEquals("おはよう", localize.getValue(TEST_KEY_GREET));
+        assertEquals(2, loads.get());
+
+        assertEquals("", localize.getValue("Missing Key"));
+        assertEquals(1, fallbackLoads.get());
+    }
+
+    @Test void testLazyBundleLoadingConcurrently() throws InterruptedException {
+        LocalizeConfig config = new LocalizeConfig();
+        Localize localize = Localize.of(Locale.ENGLISH, config);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] threads = new Thread[8];
+
+        config.setLazyBundleLoading(true);
+        localize.putBundleProvider("key", locale -> {
+            loads.incrementAndGet();
+            return TEST_PROVIDER.getBundle(locale);
+        });
+
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                try {
+                    start.await();
+                    localize.getValue(TEST_KEY_GREET);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            threads[i].start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test void testLazyMissingResourceBundle() {
+        LocalizeConfig config = new LocalizeConfig();
+        Localize localize = Localize.of(Locale.ENGLISH, config);
+
+        config.setLazyBundleLoading(true);
+        assertDoesNotThrow(() -> localize.putBundleProvider("key", l -> ResourceBundle.getBundle("missing", l)));
+        assertThrows(MissingResourceException.class, () -> localize.getValue(TEST_KEY_GREET));
+    }
+
+    @Test void testLocalizeConfigLazyEquality() {
+        LocalizeConfig config1 = new LocalizeConfig();
+        LocalizeConfig config2 = new LocalizeConfig();
+        config2.setLazyBundleLoading(true);
+
+        assertNotEquals(config1, config2);
+        assertTrue(config2.isLazyBundleLoading());
+    }
+
+    @Test void testLocalizeConfigKeyFilteringEquality() {
+        LocalizeConfig config1 = new LocalizeConfig();
+        LocalizeConfig config2 = new LocalizeConfig();
+        config2.setBundleKeyFiltering(true);
+
+        assertNotEquals(config1, config2);
+        assertTrue(config2.isBundleKeyFiltering());
+        assertFalse(config1.isBundleKeyFiltering());
+    }
+
     private static class TestException extends RuntimeException {}
+
+    private static class TestBundle extends ListResourceBundle {
+        private final Locale locale;
+        private final Object[][] contents;
+
+        private TestBundle(ResourceBundle parent, Locale locale, String... contents) {
+            this.locale = locale;
+            this.contents = new Object[contents.length / 2][];
+            for (int i = 0; i < contents.length; i += 2) {
+                this.contents[i / 2] = new Object[] { contents[i], contents[i + 1] };
+            }
+            setParent(parent);
+        }
+
+        @Override public Locale getLocale() {
+            return locale;
+        }
+
+        @Override protected Object[][] getContents() {
+            return contents;
+        }
+    }
 }
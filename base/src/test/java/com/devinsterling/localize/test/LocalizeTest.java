@@ -6,9 +6,13 @@ import com.devinsterling.localize.LocalizeConfig;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.ListResourceBundle;
 import java.util.Locale;
 import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -229,4 +233,145 @@ class LocalizeTest {
         localize.refresh("provider");
         assertEquals("xyz", localize.getValue(TEST_KEY_TEST));
     }
+
+    @Test void testPutProviderDuringLocaleChange() throws InterruptedException {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Localize localize = Localize.of(Locale.ENGLISH);
+
+        localize.putBundleProvider("blocking", locale -> {
+            if (locale.equals(Locale.JAPANESE)) {
+                loading.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return TEST_PROVIDER.getBundle(locale);
+        });
+
+        Thread thread = new Thread(() -> localize.setLocale(Locale.JAPANESE));
+        thread.start();
+        loading.await();
+
+        // Inserted while the locale change is still loading bundles
+        localize.putBundleProvider("other", TEST2_PROVIDER);
+        release.countDown();
+        thread.join();
+
+        assertEquals(2, localize.getResourceBundles().size());
+        for (ResourceBundle bundle : localize.getResourceBundles()) {
+            assertEquals(Locale.JAPANESE, bundle.getLocale());
+        }
+        assertEquals("おはよう", localize.getValue(TEST_KEY_GREET));
+    }
+
+    @Test void testGetKeys() {
+        Localize localize = getLocalizeInstance();
+        localize.putBundleProvider("other", TEST2_PROVIDER);
+        localize.putBundleProvider("extra", locale -> new ListResourceBundle() {
+            @Override protected Object[][] getContents() {
+                return new Object[][] {{"Test.extra", "extra"}, {"Tests", "other"}, {"Other.key", "other"}};
+            }
+        });
+
+        // Keys present in several providers are listed once
+        assertEquals(
+            List.of("Test.extra", TEST_KEY_GREET, TEST_KEY_NAMED, TEST_KEY_NUMBERED, TEST_KEY_TEST),
+            localize.getKeys("Test.")
+        );
+        assertEquals(List.of(TEST_KEY_NAMED, TEST_KEY_NUMBERED), localize.getKeys("Test.n"));
+        assertEquals(List.of(), localize.getKeys("Missing"));
+        assertEquals(7, localize.getKeys("").size());
+        assertThrows(UnsupportedOperationException.class, () -> localize.getKeys("").clear());
+        assertThrows(NullPointerException.class, () -> localize.getKeys(null));
+    }
+
+    @Test void testGetKeysAfterRefresh() {
+        Localize localize = Localize.of(Locale.ENGLISH);
+        AtomicReference<String> key = new AtomicReference<>("Test.first");
+        localize.addBundleProvider(locale -> new ListResourceBundle() {
+            @Override protected Object[][] getContents() {
+                return new Object[][] {{key.get(), "value"}};
+            }
+        });
+        assertEquals(List.of("Test.first"), localize.getKeys("Test."));
+
+        key.set("Test.second");
+        localize.refresh();
+        assertEquals(List.of("Test.second"), localize.getKeys("Test."));
+    }
+
+    @Test void testPrefixRouting() {
+        Localize localize = Localize.of(Locale.ENGLISH);
+        List<String> searched = new ArrayList<>();
+        localize.setProcessor((bundle, request) -> {
+            searched.add(bundle.getBaseBundleName());
+            return bundle.containsKey(request.getKey()) ? bundle.getString(request.getKey()) : null;
+        });
+
+        localize.putBundleProvider("common", locale -> createBundle("common", "Billing.total", "common", "Greet", "hi"));
+        localize.putBundleProvider("billing", locale -> createBundle("billing", "Billing.total", "total"), Set.of("Billing."));
+        localize.putBundleProvider("admin", locale -> createBundle("admin", "Admin.user", "user"), Set.of("Admin.", "Adm.", "A"));
+
+        // Routed providers come first, followed by unrouted providers
+        assertEquals("total", localize.getValue("Billing.total"));
+        assertEquals(List.of("billing"), searched);
+
+        searched.clear();
+        assertEquals("hi", localize.getValue("Greet"));
+        assertEquals(List.of("common"), searched);
+
+        searched.clear();
+        assertEquals("", localize.getValue("Billing"));
+        assertEquals(List.of("common"), searched);
+
+        searched.clear();
+        assertEquals("user", localize.getValue("Admin.user"));
+        assertEquals(List.of("admin"), searched);
+
+        // Replacing a provider replaces its prefixes
+        localize.putBundleProvider("billing", locale -> createBundle("billing", "Billing.total", "total"));
+        searched.clear();
+        assertEquals("common", localize.getValue("Billing.total"));
+        assertEquals(List.of("common"), searched);
+
+        localize.removeBundleProvider("admin");
+        assertEquals("", localize.getValue("Admin.user"));
+        assertEquals(List.of("Billing.total", "Greet"), localize.getKeys(""));
+
+        assertThrows(IllegalArgumentException.class, () -> localize.putBundleProvider("other", TEST_PROVIDER, Set.of("")));
+        assertThrows(NullPointerException.class, () -> localize.putBundleProvider("other", TEST_PROVIDER, null));
+    }
+
+    @Test void testNestedPrefixRouting() {
+        Localize localize = Localize.of(Locale.ENGLISH);
+        localize.putBundleProvider("outer", locale -> createBundle("outer", "App.a", "outer", "App.nested.a", "outer"), Set.of("App."));
+        localize.putBundleProvider("inner", locale -> createBundle("inner", "App.nested.a", "inner", "App.nested.b", "inner"), Set.of("App.nested."));
+        localize.putBundleProvider("fallback", locale -> createBundle("fallback", "App.nested.c", "fallback"));
+
+        // Keys of nested prefixes are routed to both providers in order of priority
+        assertEquals("outer", localize.getValue("App.nested.a"));
+        assertEquals("inner", localize.getValue("App.nested.b"));
+        assertEquals("fallback", localize.getValue("App.nested.c"));
+        assertEquals("outer", localize.get("App.a").value());
+        assertEquals("", localize.getValue("App.nested.a.b.c.d.missing"));
+    }
+
+    private static ResourceBundle createBundle(String name, String... keysAndValues) {
+        return new ListResourceBundle() {
+            @Override public String getBaseBundleName() {
+                return name;
+            }
+
+            @Override protected Object[][] getContents() {
+                Object[][] contents = new Object[keysAndValues.length / 2][];
+                for (int i = 0; i < contents.length; i++) {
+                    contents[i] = new Object[] {keysAndValues[i * 2], keysAndValues[i * 2 + 1]};
+                }
+                return contents;
+            }
+        };
+    }
 }
@@ -0,0 +1,187 @@
+package com.devinsterling.localize.test;
+
+import com.devinsterling.localize.Localize;
+import com.devinsterling.localize.LocalizeView;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.ListResourceBundle;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.devinsterling.localize.test.TestUtil.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocalizeViewTest {
+
+    @Test void testGetValue() {
+        Localize localize = getLocalizeInstance();
+        LocalizeView ja = localize.forLocale(Locale.JAPANESE);
+        LocalizeView zh = localize.forLocale(Locale.CHINESE);
+
+        assertEquals(Locale.JAPANESE, ja.getLocale());
+        assertSame(localize, ja.getLocalize());
+
+        assertEquals("おはよう", ja.getValue(TEST_KEY_GREET));
+        assertEquals("早上好", zh.getValue(() -> TEST_KEY_GREET));
+        assertEquals("ApplesとOrangesとStrawberries", ja.get(TEST_KEY_NAMED)
+                                                       .args(Map.of("first", "Apples",
+                                                                    "middle", "Oranges",
+                                                                    "last", "Strawberries"))
+                                                       .value());
+        assertEquals("", ja.getValue("missing"));
+
+        // The current locale is unaffected
+        assertEquals(Locale.ENGLISH, localize.getLocale());
+        assertEquals("hi", localize.getValue(TEST_KEY_GREET));
+    }
+
+    @Test void testSharedBundles() {
+        Map<Locale, AtomicInteger> loads = new ConcurrentHashMap<>();
+        Localize localize = Localize.of(Locale.ENGLISH);
+        localize.putBundleProvider("provider", locale -> {
+            loads.computeIfAbsent(locale, l -> new AtomicInteger()).incrementAndGet();
+            return TEST_PROVIDER.getBundle(locale);
+        });
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals("おはよう", localize.forLocale(Locale.JAPANESE).getValue(TEST_KEY_GREET));
+            assertEquals("hi", localize.forLocale(Locale.ENGLISH).getValue(TEST_KEY_GREET));
+        }
+
+        assertEquals(1, loads.get(Locale.JAPANESE).get());
+        // The current locale reuses the bundles of the instance
+        assertEquals(1, loads.get(Locale.ENGLISH).get());
+    }
+
+    @Test void testProviderChanges() {
+        Localize localize = Localize.of(Locale.ENGLISH);
+        LocalizeView view = localize.forLocale(Locale.JAPANESE);
+        assertEquals("", view.getValue(TEST_KEY_GREET));
+        assertTrue(view.getResourceBundles().isEmpty());
+
+        localize.putBundleProvider("provider", TEST_PROVIDER);
+        assertEquals("おはよう", view.getValue(TEST_KEY_GREET));
+
+        localize.putBundleProvider("provider", TEST2_PROVIDER);
+        assertEquals("おはようございます", view.getValue(TEST_KEY_GREET));
+        assertEquals(1, view.getResourceBundles().size());
+
+        localize.removeBundleProvider("provider");
+        assertEquals("", view.getValue(TEST_KEY_GREET));
+    }
+
+    @Test void testRefresh() {
+        AtomicReference<String> value = new AtomicReference<>("abc");
+        Localize localize = Localize.of(Locale.ENGLISH);
+        LocalizeView view = localize.forLocale(Locale.JAPANESE);
+
+        localize.putBundleProvider("provider", locale -> new ListResourceBundle() {
+            private final String current = value.get();
+
+            @Override protected Object[][] getContents() {
+                return new Object[][] {{ TEST_KEY_TEST, current }};
+            }
+        });
+        assertEquals("abc", view.getValue(TEST_KEY_TEST));
+
+        value.set("xyz");
+        assertEquals("abc", view.getValue(TEST_KEY_TEST)); // still stale
+
+        localize.refresh("provider");
+        assertEquals("xyz", view.getValue(TEST_KEY_TEST));
+
+        value.set("123");
+        localize.refresh();
+        assertEquals("123", view.getValue(TEST_KEY_TEST));
+    }
+
+    @Test void testProviderLooksUpOtherLocales() {
+        // Fresh instances with various fallbacks, as loads used to fail if both locales shared a map bin
+        for (int i = 0; i < 100; i++) {
+            Locale fallback = Locale.forLanguageTag("en-x-b" + i);
+            Localize localize = Localize.of(Locale.ENGLISH);
+            localize.putBundleProvider("provider", locale -> {
+                // Loading the bundle of `a` looks up the value of the fallback
+                String value = "a".equals(locale.getExtension(Locale.PRIVATE_USE_EXTENSION))
+                               ? localize.forLocale(fallback).getValue(TEST_KEY_TEST) + "!"
+                               : locale.toLanguageTag();
+
+                return new ListResourceBundle() {
+                    @Override protected Object[][] getContents() {
+                        return new Object[][] {{ TEST_KEY_TEST, value }};
+                    }
+                };
+            });
+
+            assertEquals("en-x-b" + i + "!", localize.forLocale(Locale.forLanguageTag("en-x-a")).getValue(TEST_KEY_TEST));
+        }
+    }
+
+    @Test void testSlowProviderDoesNotBlockOtherLocales() throws InterruptedException {
+        CountDownLatch isLoading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Localize localize = Localize.of(Locale.ENGLISH);
+        localize.putBundleProvider("provider", locale -> {
+            if (locale.equals(Locale.JAPANESE)) {
+                isLoading.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return TEST_PROVIDER.getBundle(locale);
+        });
+
+        AtomicReference<String> japanese = new AtomicReference<>();
+        Thread thread = new Thread(() -> japanese.set(localize.forLocale(Locale.JAPANESE).getValue(TEST_KEY_GREET)));
+        thread.start();
+        isLoading.await();
+
+        try {
+            assertEquals("早上好", localize.forLocale(Locale.CHINESE).getValue(TEST_KEY_GREET));
+        } finally {
+            release.countDown();
+            thread.join();
+        }
+        assertEquals("おはよう", japanese.get());
+    }
+
+    @Test void testResourceBundles() {
+        Localize localize = getLocalizeInstance();
+        localize.putBundleProvider("other", TEST2_PROVIDER);
+
+        for (ResourceBundle bundle : localize.forLocale(Locale.JAPANESE).getResourceBundles()) {
+            assertEquals(Locale.JAPANESE, bundle.getLocale());
+        }
+    }
+
+    @Test void testGetKeys() {
+        Localize localize = getLocalizeInstance();
+        localize.putBundleProvider("extra", locale -> new ListResourceBundle() {
+            @Override protected Object[][] getContents() {
+                return locale.equals(Locale.JAPANESE) ? new Object[][] {{"Test.ja", "ja"}} : new Object[0][];
+            }
+        });
+
+        assertEquals(
+            List.of(TEST_KEY_GREET, "Test.ja", TEST_KEY_NAMED, TEST_KEY_NUMBERED, TEST_KEY_TEST),
+            localize.forLocale(Locale.JAPANESE).getKeys("Test.")
+        );
+        assertEquals(List.of(), localize.forLocale(Locale.ENGLISH).getKeys("Test.ja"));
+    }
+
+    @Test void testExceptions() {
+        Localize localize = Localize.of();
+        assertThrows(NullPointerException.class, () -> localize.forLocale(null));
+        assertThrows(NullPointerException.class, () -> localize.forLocale(Locale.ENGLISH).getValue((String) null));
+    }
+}
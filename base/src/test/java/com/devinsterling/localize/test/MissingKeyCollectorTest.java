@@ -0,0 +1,91 @@
+package com.devinsterling.localize.test;
+
+import com.devinsterling.localize.Localize;
+import com.devinsterling.localize.MissingKeyCollector;
+import com.devinsterling.localize.MissingKeyCollector.MissingKey;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static com.devinsterling.localize.test.TestUtil.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MissingKeyCollectorTest {
+
+    @Test void testCollectMisses() {
+        Localize localize = getLocalizeInstance();
+        MissingKeyCollector collector = new MissingKeyCollector(10);
+        localize.setMissingKeyCollector(collector);
+        assertSame(collector, localize.getMissingKeyCollector());
+
+        localize.getValue("Missing.first");
+        localize.getValue("Missing.first");
+        localize.get("Missing.second").defaultValue("default").value();
+        localize.forLocale(Locale.JAPANESE).getValue("Missing.first");
+        localize.getValue(TEST_KEY_GREET);
+
+        assertEquals(List.of(
+            new MissingKey("Missing.first", Locale.ENGLISH, 2),
+            new MissingKey("Missing.first", Locale.JAPANESE, 1),
+            new MissingKey("Missing.second", Locale.ENGLISH, 1)
+        ), collector.getMissingKeys());
+        assertEquals(3, collector.size());
+
+        // Disabled again
+        localize.setMissingKeyCollector(null);
+        localize.getValue("Missing.first");
+        assertEquals(2, collector.getMissingKeys().get(0).count());
+    }
+
+    @Test void testCapacity() {
+        MissingKeyCollector collector = new MissingKeyCollector(2);
+        collector.record("first", Locale.ENGLISH);
+        collector.record("second", Locale.ENGLISH);
+        collector.record("third", Locale.ENGLISH);
+        collector.record("first", Locale.JAPANESE);
+        collector.record("first", Locale.ENGLISH);
+
+        assertEquals(2, collector.size());
+        assertEquals(2, collector.getDroppedCount());
+        assertEquals(new MissingKey("first", Locale.ENGLISH, 2), collector.getMissingKeys().get(0));
+
+        collector.clear();
+        assertEquals(List.of(), collector.getMissingKeys());
+        assertEquals(0, collector.getDroppedCount());
+        collector.record("third", Locale.ENGLISH);
+        assertEquals(1, collector.size());
+    }
+
+    @Test void testConcurrentRecords() throws InterruptedException {
+        MissingKeyCollector collector = new MissingKeyCollector(50);
+        List<Thread> threads = new ArrayList<>();
+
+        for (int t = 0; t < 8; t++) {
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    collector.record("key" + (i % 100), Locale.ENGLISH);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        long recorded = collector.getMissingKeys().stream().mapToLong(MissingKey::count).sum();
+        assertEquals(50, collector.size());
+        assertEquals(8 * 10_000, recorded + collector.getDroppedCount());
+    }
+
+    @Test void testExceptions() {
+        assertThrows(IllegalArgumentException.class, () -> new MissingKeyCollector(0));
+        assertThrows(NullPointerException.class, () -> new MissingKeyCollector(1).record(null, Locale.ROOT));
+        assertThrows(NullPointerException.class, () -> new MissingKeyCollector(1).record("key", null));
+        assertThrows(UnsupportedOperationException.class, () -> new MissingKeyCollector(1).getMissingKeys().clear());
+    }
+}
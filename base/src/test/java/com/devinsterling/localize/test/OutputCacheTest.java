@@ -0,0 +1,174 @@
+package com.devinsterling.localize.test;
+
+import com.devinsterling.localize.CacheStatistics;
+import com.devinsterling.localize.Localize;
+import com.devinsterling.localize.LocalizeConfig;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.devinsterling.localize.test.TestUtil.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OutputCacheTest {
+
+    @Test void testDisabledByDefault() {
+        Localize localize = getLocalizeInstance();
+        AtomicInteger calls = countProcessorCalls(localize);
+
+        localize.getValue(TEST_KEY_GREET);
+        localize.getValue(TEST_KEY_GREET);
+
+        assertEquals(2, calls.get());
+        assertEquals(CacheStatistics.EMPTY, localize.getOutputCacheStatistics());
+    }
+
+    @Test void testCacheHits() {
+        Localize localize = getCachingInstance(100);
+        AtomicInteger calls = countProcessorCalls(localize);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals("hi", localize.getValue(TEST_KEY_GREET));
+            assertEquals("c and Devin and b", localize.get(TEST_KEY_NUMBERED).arg("Devin").arg("b").arg("c").value());
+        }
+
+        CacheStatistics statistics = localize.getOutputCacheStatistics();
+        assertEquals(2, calls.get());
+        assertEquals(4, statistics.hitCount());
+        assertEquals(2, statistics.missCount());
+        assertEquals(2, statistics.size());
+        assertEquals(4 / 6.0, statistics.hitRate());
+    }
+
+    @Test void testArgumentsAreKeys() {
+        Localize localize = getCachingInstance(100);
+
+        assertEquals("c and Devin and b", localize.get(TEST_KEY_NUMBERED).arg("Devin").arg("b").arg("c").value());
+        assertEquals("c and Sterling and b", localize.get(TEST_KEY_NUMBERED).arg("Sterling").arg("b").arg("c").value());
+        assertEquals("c and Devin and b", localize.get(TEST_KEY_NUMBERED).arg("Devin").arg("b").arg("c").value());
+        assertEquals(1, localize.getOutputCacheStatistics().hitCount());
+    }
+
+    @Test void testLocaleChangeMisses() {
+        Localize localize = getCachingInstance(100);
+
+        assertEquals("hi", localize.getValue(TEST_KEY_GREET));
+        localize.setLocale(Locale.JAPANESE);
+        assertEquals("おはよう", localize.getValue(TEST_KEY_GREET));
+        assertEquals("おはよう", localize.forLocale(Locale.JAPANESE).getValue(TEST_KEY_GREET));
+        assertEquals("hi", localize.forLocale(Locale.ENGLISH).getValue(TEST_KEY_GREET));
+
+        assertEquals(1, localize.getOutputCacheStatistics().hitCount());
+    }
+
+    @Test void testMutableArgumentsAreNotCached() {
+        Localize localize = getCachingInstance(100);
+        AtomicInteger calls = countProcessorCalls(localize);
+        Date date = new Date();
+
+        localize.get(TEST_KEY_NUMBERED).arg(date).arg("b").arg("c").value();
+        localize.get(TEST_KEY_NUMBERED).arg(date).arg("b").arg("c").value();
+
+        assertEquals(2, calls.get());
+        assertEquals(0, localize.getOutputCacheStatistics().size());
+    }
+
+    @Test void testMissingValuesAreNotCached() {
+        Localize localize = getCachingInstance(100);
+
+        assertEquals("", localize.getValue("Missing Key"));
+        localize.getConfig().setDefaultMissingValue("missing");
+        assertEquals("missing", localize.getValue("Missing Key"));
+        assertEquals(0, localize.getOutputCacheStatistics().size());
+    }
+
+    @Test void testEviction() {
+        Localize localize = getCachingInstance(1);
+
+        localize.getValue(TEST_KEY_GREET);
+        localize.getValue(TEST_KEY_TEST);
+        localize.getValue(TEST_KEY_GREET);
+
+        CacheStatistics statistics = localize.getOutputCacheStatistics();
+        assertEquals(0, statistics.hitCount());
+        assertEquals(2, statistics.evictionCount());
+        assertEquals(1, statistics.size());
+    }
+
+    @Test void testSetProcessorClears() {
+        Localize localize = getCachingInstance(100);
+
+        assertEquals("hi", localize.getValue(TEST_KEY_GREET));
+        localize.setProcessor((bundle, request) -> "processed");
+        assertEquals("processed", localize.getValue(TEST_KEY_GREET));
+    }
+
+    @Test void testSetProcessorDuringLookup() {
+        Localize localize = getCachingInstance(100);
+
+        // The lookup still running with the replaced processor must not cache its value for the new one
+        localize.setProcessor((bundle, request) -> {
+            localize.setProcessor((bundle2, request2) -> "new");
+            return "old";
+        });
+        assertEquals("old", localize.getValue(TEST_KEY_GREET));
+        assertEquals("new", localize.getValue(TEST_KEY_GREET));
+    }
+
+    @Test void testDefaultFormatLocaleChangeMisses() {
+        Localize localize = getCachingInstance(100);
+        Locale defaultLocale = Locale.getDefault(Locale.Category.FORMAT);
+
+        try {
+            Locale.setDefault(Locale.Category.FORMAT, Locale.US);
+            assertEquals("c and 1,234.5 and b", localize.get(TEST_KEY_NUMBERED).arg(1234.5).arg("b").arg("c").value());
+
+            Locale.setDefault(Locale.Category.FORMAT, Locale.GERMANY);
+            assertEquals("c and 1.234,5 and b", localize.get(TEST_KEY_NUMBERED).arg(1234.5).arg("b").arg("c").value());
+        } finally {
+            Locale.setDefault(Locale.Category.FORMAT, defaultLocale);
+        }
+    }
+
+    @Test void testDefaultTimeZoneChangeMisses() {
+        Localize localize = getCachingInstance(100);
+        TimeZone defaultTimeZone = TimeZone.getDefault();
+
+        try {
+            TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+            localize.get(TEST_KEY_NUMBERED).arg("a").arg("b").arg("c").value();
+
+            TimeZone.setDefault(TimeZone.getTimeZone("Asia/Tokyo"));
+            localize.get(TEST_KEY_NUMBERED).arg("a").arg("b").arg("c").value();
+        } finally {
+            TimeZone.setDefault(defaultTimeZone);
+        }
+        assertEquals(0, localize.getOutputCacheStatistics().hitCount());
+        assertEquals(2, localize.getOutputCacheStatistics().size());
+    }
+
+    @Test void testExceptions() {
+        LocalizeConfig config = new LocalizeConfig();
+        assertThrows(IllegalArgumentException.class, () -> config.setOutputCacheSize(-1));
+    }
+
+    private static Localize getCachingInstance(int size) {
+        Localize localize = getLocalizeInstance();
+        localize.getConfig().setOutputCacheSize(size);
+        return localize;
+    }
+
+    private static AtomicInteger countProcessorCalls(Localize localize) {
+        AtomicInteger calls = new AtomicInteger();
+        localize.setProcessor((bundle, request) -> {
+            calls.incrementAndGet();
+            return Localize.DEFAULT_PROCESSOR.process(bundle, request);
+        });
+        return calls;
+    }
+}
@@ -0,0 +1,57 @@
+package com.devinsterling.localize.test;
+
+import com.devinsterling.localize.Localize;
+import com.devinsterling.localize.PreparedMessage;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Locale;
+
+import static com.devinsterling.localize.test.TestUtil.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PreparedMessageTest {
+
+    @Test void testFormat() {
+        Localize localize = getLocalizeInstance();
+        PreparedMessage greet = localize.prepare(TEST_KEY_GREET);
+        PreparedMessage named = localize.prepare(TEST_KEY_NAMED, "last", "first", "middle");
+
+        assertEquals(TEST_KEY_NAMED, named.getKey());
+        assertEquals(List.of("last", "first", "middle"), named.getArgumentNames());
+        assertEquals("hi", greet.format());
+        assertEquals("a and b and c", named.format("c", "a", "b"));
+        assertEquals(localize.get(TEST_KEY_NAMED).arg("first", "a").arg("middle", "b").arg("last", "c").value(),
+                     named.format("c", "a", "b"));
+    }
+
+    @Test void testLocaleChange() {
+        Localize localize = getLocalizeInstance();
+        PreparedMessage named = localize.prepare(TEST_KEY_NAMED, "first", "middle", "last");
+
+        localize.setLocale(Locale.JAPANESE);
+        assertEquals("aとbとc", named.format("a", "b", "c"));
+    }
+
+    @Test void testValuesAreCopied() {
+        Localize localize = getLocalizeInstance();
+        PreparedMessage named = localize.prepare(TEST_KEY_NAMED, "first", "middle", "last");
+        Object[] values = { "a", "b", "c" };
+
+        assertEquals("a and b and c", named.format(values));
+        values[0] = "x";
+        assertEquals("x and b and c", named.format(values));
+    }
+
+    @Test void testInvalidArguments() {
+        Localize localize = getLocalizeInstance();
+        PreparedMessage named = localize.prepare(TEST_KEY_NAMED, "first", "middle", "last");
+
+        assertThrows(IllegalArgumentException.class, () -> named.format("a", "b"));
+        assertThrows(IllegalArgumentException.class, () -> localize.prepare(TEST_KEY_NAMED, "first", "first"));
+        assertThrows(NullPointerException.class, () -> localize.prepare(TEST_KEY_NAMED, "first", null));
+        assertThrows(NullPointerException.class, () -> localize.prepare(null));
+    }
+}
@@ -23,4 +23,26 @@ tasks {
     withType<Javadoc>().configureEach {
         enabled = false
     }
+
+    // Cold start lookup benchmark, e.g., `./gradlew :examples:startupBenchmark -Pruns=20`
+    register<JavaExec>("startupBenchmark") {
+        description = "Measures the time to the first lookup of a cold JVM, with and without arguments."
+        group = "verification"
+        mainModule = application.mainModule
+        mainClass = "com.devinsterling.localize.examples.StartupBenchmark"
+        classpath = sourceSets.main.get().runtimeClasspath
+        args(providers.gradleProperty("runs").getOrElse("10"))
+    }
+
+    // Headless mixed workload, e.g., `./gradlew :examples:loadDriver -Pload.threads=1000 -Pload.virtual=true`
+    register<JavaExec>("loadDriver") {
+        description = "Reports throughput, latency percentiles, and allocation rate of a mixed multithreaded workload."
+        group = "verification"
+        mainModule = application.mainModule
+        mainClass = "com.devinsterling.localize.examples.LoadDriver"
+        classpath = sourceSets.main.get().runtimeClasspath
+        args(providers.gradlePropertiesPrefixedBy("load.").get().map { (key, value) ->
+            key.removePrefix("load.") + "=" + value
+        })
+    }
 }
@@ -0,0 +1,337 @@
+package com.devinsterling.localize.examples;
+
+import com.devinsterling.localize.Localize;
+import com.devinsterling.localize.catalog.CompactCatalog;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/// Headless load driver running a mixed workload against a synthetic catalog from many threads.
+///
+/// Each thread repeatedly picks an operation by the configured ratios:
+/// - Plain lookups, lookups with arguments, and lookups of missing keys.
+/// - Locale switches.
+/// - Hot reloads of a single provider, rebuilding its catalog before refreshing it.
+///
+/// After a warmup, throughput and latency percentiles are reported per operation, along with the
+/// allocation rate of the worker threads when the JVM supports measuring it for them.
+///
+/// Run through `./gradlew :examples:loadDriver`, optionally with options such as
+/// `-Pload.threads=1000 -Pload.virtual=true`. Options are passed as `name=value` arguments:
+/// - `keys` = `10000`, distinct keys of the catalog split between all providers
+/// - `providers` = `10`
+/// - `threads` = `64`
+/// - `virtual` = `false`, whether to use virtual threads (requires Java 21 or above)
+/// - `warmup` = `3`, seconds before measuring
+/// - `seconds` = `10`, seconds measured
+/// - `arguments` = `20`, percent of lookups with arguments
+/// - `missing` = `5`, percent of lookups of missing keys
+/// - `switches` = `1`, locale switches per 10,000 operations
+/// - `reloads` = `1`, hot reloads per 10,000 operations
+public class LoadDriver {
+    private static final List<Locale> LOCALES = List.of(Locale.ENGLISH, Locale.JAPANESE, Locale.GERMAN, Locale.FRENCH);
+    private static final String PROVIDER_PREFIX = "module";
+    /// Every n-th key of a provider takes arguments.
+    private static final int ARGUMENT_INTERVAL = 5;
+    private static final double[] PERCENTILES = {0.5, 0.9, 0.99, 0.999};
+    /// Prevents lookups from being optimized away.
+    private static volatile long sink;
+
+    private enum Operation { LOOKUP, ARGUMENTS, MISSING, SWITCH, RELOAD }
+
+    public static void main(String... args) throws InterruptedException, ExecutionException {
+        Options options = Options.parse(args);
+        AtomicReferenceArray<CompactCatalog> catalogs = new AtomicReferenceArray<>(options.providers);
+        Localize localize = Localize.of(Locale.ENGLISH);
+
+        for (int i = 0; i < options.providers; i++) {
+            int provider = i;
+            catalogs.set(provider, createCatalog(provider, options));
+            localize.putBundleProvider(PROVIDER_PREFIX + provider, locale -> catalogs.get(provider).getBundle(locale));
+        }
+
+        System.out.printf(
+            "%,d keys, %d providers, %d %s threads, %d%% arguments, %d%% missing, %d switches and %d reloads per 10,000%n",
+            options.keys, options.providers, options.threads, options.isVirtual ? "virtual" : "platform",
+            options.argumentPercent, options.missingPercent, options.switchRatio, options.reloadRatio
+        );
+
+        run(localize, catalogs, options, options.warmupSeconds);
+        report(run(localize, catalogs, options, options.seconds), options.seconds);
+    }
+
+    /// Runs the workload on all threads for the given duration.
+    private static Result run(Localize localize, AtomicReferenceArray<CompactCatalog> catalogs,
+                              Options options, int seconds) throws InterruptedException, ExecutionException {
+        long deadline = System.nanoTime() + seconds * 1_000_000_000L;
+        List<Future<Result>> futures = new ArrayList<>();
+        ExecutorService executor = createExecutor(options);
+
+        try {
+            for (int i = 0; i < options.threads; i++) {
+                futures.add(executor.submit(() -> work(localize, catalogs, options, deadline)));
+            }
+
+            Result total = new Result();
+            for (Future<Result> future : futures) {
+                total.merge(future.get());
+            }
+            return total;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static Result work(Localize localize, AtomicReferenceArray<CompactCatalog> catalogs,
+                               Options options, long deadline) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Result result = new Result();
+        long allocatedBefore = getAllocatedBytes();
+        long checksum = 0;
+
+        while (System.nanoTime() < deadline) {
+            Operation operation = options.choose(random);
+            int provider = random.nextInt(options.providers);
+            long start = System.nanoTime();
+
+            switch (operation) {
+                case LOOKUP -> {
+                    int key = random.nextInt(options.keysPerProvider());
+                    if (key % ARGUMENT_INTERVAL == 0) key = key == 0 ? 1 : key - 1;
+                    checksum += localize.getValue(getKey(provider, key)).length();
+                }
+                case ARGUMENTS -> {
+                    int key = random.nextInt(options.keysPerProvider() / ARGUMENT_INTERVAL) * ARGUMENT_INTERVAL;
+                    checksum += localize.get(getKey(provider, key))
+                                        .arg("name", "Snowball")
+                                        .arg("count", random.nextInt(100))
+                                        .value()
+                                        .length();
+                }
+                case MISSING -> checksum += localize.getValue(getKey(provider, -1)).length();
+                case SWITCH -> localize.setLocale(LOCALES.get(random.nextInt(LOCALES.size())));
+                case RELOAD -> {
+                    catalogs.set(provider, createCatalog(provider, options));
+                    localize.refresh(PROVIDER_PREFIX + provider);
+                }
+            }
+
+            result.record(operation, System.nanoTime() - start);
+        }
+
+        long allocatedAfter = getAllocatedBytes();
+        result.allocatedBytes = allocatedBefore < 0 || allocatedAfter < 0 ? -1 : allocatedAfter - allocatedBefore;
+        sink = checksum;
+        return result;
+    }
+
+    private static void report(Result result, int seconds) {
+        long operations = 0;
+
+        System.out.printf("%-10s %14s %10s %10s %10s %10s %10s%n",
+                          "operation", "ops/s", "p50 us", "p90 us", "p99 us", "p99.9 us", "max us");
+
+        for (Operation operation : Operation.values()) {
+            Histogram histogram = result.histograms[operation.ordinal()];
+            operations += histogram.getCount();
+            if (histogram.getCount() == 0) continue;
+
+            System.out.printf("%-10s %,14.0f", operation.name().toLowerCase(Locale.ROOT), (double) histogram.getCount() / seconds);
+            for (double percentile : PERCENTILES) {
+                System.out.printf(" %10.2f", histogram.getPercentile(percentile) / 1_000.0);
+            }
+            System.out.printf(" %10.2f%n", histogram.getMax() / 1_000.0);
+        }
+
+        System.out.printf("%-10s %,14.0f%n", "total", (double) operations / seconds);
+        if (result.allocatedBytes < 0) {
+            System.out.println("Allocation rate unavailable for these threads");
+        } else {
+            System.out.printf(
+                "Allocation rate %,.1f MB/s, %,.0f bytes/operation%n",
+                result.allocatedBytes / 1_048_576.0 / seconds, (double) result.allocatedBytes / operations
+            );
+        }
+    }
+
+    /// Creates the catalog of a provider, where every n-th key takes a name and a pluralized count.
+    private static CompactCatalog createCatalog(int provider, Options options) {
+        CompactCatalog.Builder builder = CompactCatalog.builder(PROVIDER_PREFIX + provider);
+
+        for (Locale locale : LOCALES) {
+            String language = locale.getLanguage();
+            Map<String, String> values = new HashMap<>();
+
+            for (int i = 0; i < options.keysPerProvider(); i++) {
+                values.put(getKey(provider, i), i % ARGUMENT_INTERVAL == 0
+                    ? "[" + language + "] {name} has {count, plural, one{# message} other{# messages}} in module " + provider
+                    : "[" + language + "] Text " + i + " of module " + provider);
+            }
+            builder.put(locale, values);
+        }
+
+        return builder.build();
+    }
+
+    private static String getKey(int provider, int key) {
+        return key < 0 ? "Module" + provider + ".missing" : "Module" + provider + ".key" + key;
+    }
+
+    /// Creates virtual threads through reflection, as this module targets Java 17.
+    private static ExecutorService createExecutor(Options options) {
+        if (!options.isVirtual) return Executors.newFixedThreadPool(options.threads);
+
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Virtual threads require Java 21 or above", e);
+        }
+    }
+
+    /// @return Bytes allocated by the current thread, or `-1` if unsupported.
+    private static long getAllocatedBytes() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+
+        if (bean instanceof com.sun.management.ThreadMXBean threads && threads.isThreadAllocatedMemoryEnabled()) {
+            return threads.getCurrentThreadAllocatedBytes();
+        }
+        return -1;
+    }
+
+    private record Options(int keys, int providers, int threads, boolean isVirtual, int warmupSeconds, int seconds,
+                           int argumentPercent, int missingPercent, int switchRatio, int reloadRatio) {
+        private static Options parse(String... args) {
+            Map<String, String> values = new HashMap<>();
+            for (String arg : args) {
+                int separator = arg.indexOf('=');
+                if (separator < 0) throw new IllegalArgumentException("Expected name=value: " + arg);
+                values.put(arg.substring(0, separator), arg.substring(separator + 1));
+            }
+
+            Options options = new Options(
+                Integer.parseInt(values.getOrDefault("keys", "10000")),
+                Integer.parseInt(values.getOrDefault("providers", "10")),
+                Integer.parseInt(values.getOrDefault("threads", "64")),
+                Boolean.parseBoolean(values.getOrDefault("virtual", "false")),
+                Integer.parseInt(values.getOrDefault("warmup", "3")),
+                Integer.parseInt(values.getOrDefault("seconds", "10")),
+                Integer.parseInt(values.getOrDefault("arguments", "20")),
+                Integer.parseInt(values.getOrDefault("missing", "5")),
+                Integer.parseInt(values.getOrDefault("switches", "1")),
+                Integer.parseInt(values.getOrDefault("reloads", "1"))
+            );
+
+            if (options.keysPerProvider() < ARGUMENT_INTERVAL) {
+                throw new IllegalArgumentException("keys must be at least " + ARGUMENT_INTERVAL + " per provider");
+            }
+            return options;
+        }
+
+        private int keysPerProvider() {
+            return keys / providers;
+        }
+
+        private Operation choose(ThreadLocalRandom random) {
+            int admin = random.nextInt(10_000);
+            if (admin < switchRatio) return Operation.SWITCH;
+            if (admin < switchRatio + reloadRatio) return Operation.RELOAD;
+
+            int lookup = random.nextInt(100);
+            if (lookup < missingPercent) return Operation.MISSING;
+            if (lookup < missingPercent + argumentPercent) return Operation.ARGUMENTS;
+            return Operation.LOOKUP;
+        }
+    }
+
+    /// Latencies and allocations of one or more threads.
+    private static final class Result {
+        private final Histogram[] histograms = new Histogram[Operation.values().length];
+        private long allocatedBytes;
+
+        private Result() {
+            for (int i = 0; i < histograms.length; i++) {
+                histograms[i] = new Histogram();
+            }
+        }
+
+        private void record(Operation operation, long nanos) {
+            histograms[operation.ordinal()].record(nanos);
+        }
+
+        private void merge(Result other) {
+            for (int i = 0; i < histograms.length; i++) {
+                histograms[i].merge(other.histograms[i]);
+            }
+            allocatedBytes = allocatedBytes < 0 || other.allocatedBytes < 0 ? -1 : allocatedBytes + other.allocatedBytes;
+        }
+    }
+
+    /// Log-linear histogram of nanoseconds, where each power of two is split into
+    /// 16 buckets, so percentiles are accurate to roughly 6% without storing samples.
+    private static final class Histogram {
+        private static final int SUB_BITS = 4;
+        private static final int SUB_BUCKETS = 1 << SUB_BITS;
+        private final long[] counts = new long[(Long.SIZE - SUB_BITS + 1) * SUB_BUCKETS];
+        private long count;
+        private long max;
+
+        private void record(long nanos) {
+            counts[getIndex(nanos)]++;
+            count++;
+            max = Math.max(max, nanos);
+        }
+
+        private void merge(Histogram other) {
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] += other.counts[i];
+            }
+            count += other.count;
+            max = Math.max(max, other.max);
+        }
+
+        private long getCount() {
+            return count;
+        }
+
+        private long getMax() {
+            return max;
+        }
+
+        /// {@return The midpoint of the bucket containing the given percentile}
+        private long getPercentile(double percentile) {
+            long target = (long) Math.ceil(percentile * count);
+            long cumulative = 0;
+
+            for (int i = 0; i < counts.length; i++) {
+                cumulative += counts[i];
+                if (cumulative >= target) return Math.min(getMidpoint(i), max);
+            }
+            return max;
+        }
+
+        private static int getIndex(long nanos) {
+            if (nanos < SUB_BUCKETS) return (int) Math.max(0, nanos);
+
+            int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(nanos) - SUB_BITS;
+            return (shift + 1) * SUB_BUCKETS + (int) ((nanos >>> shift) & (SUB_BUCKETS - 1));
+        }
+
+        private static long getMidpoint(int index) {
+            if (index < SUB_BUCKETS) return index;
+
+            int shift = index / SUB_BUCKETS - 1;
+            return ((long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift) + (1L << shift >> 1);
+        }
+    }
+}
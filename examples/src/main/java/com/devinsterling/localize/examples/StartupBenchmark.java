@@ -0,0 +1,144 @@
+package com.devinsterling.localize.examples;
+
+import com.devinsterling.localize.Localize;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.ResourceBundle;
+
+/// Measures the time to the first `getValue` of a cold JVM, with and without arguments.
+///
+/// Each run is a fresh JVM launched by this class, as only the first lookup of a process is of interest.
+/// Run through `./gradlew :examples:startupBenchmark`, optionally with `-Pruns=<count>`.
+public class StartupBenchmark {
+    private static final String RESULT_PREFIX = "RESULT ";
+    private static final String ICU_PACKAGE = "com.ibm.icu.";
+
+    public static void main(String... args) throws IOException, InterruptedException {
+        if (args.length > 0 && (args[0].equals("plain") || args[0].equals("arguments"))) {
+            measure(args[0].equals("arguments"));
+            return;
+        }
+
+        int runs = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+        System.out.printf("%-10s %14s %14s %14s%n", "lookup", "in-process ms", "jvm-uptime ms", "icu classes");
+        report("plain", runs);
+        report("arguments", runs);
+    }
+
+    /// Runs inside the child JVM, where the first `getValue` is measured.
+    private static void measure(boolean hasArguments) {
+        long start = System.nanoTime();
+
+        Localize localize = Localize.of(Locale.ENGLISH);
+        localize.addBundleProvider(locale -> ResourceBundle.getBundle("messages", locale));
+
+        String value = hasArguments
+                       ? localize.get("MyApp.clickMessage").arg("name", "Snowball").arg("click_count", 3).value()
+                       : localize.getValue("MyApp.clickMe");
+
+        long elapsed = System.nanoTime() - start;
+        long uptime = ManagementFactory.getRuntimeMXBean().getUptime();
+
+        if (value.isEmpty()) throw new IllegalStateException("Value not found");
+        System.out.println(RESULT_PREFIX + elapsed + " " + uptime);
+    }
+
+    /// Launches the given number of child JVMs and prints the median of their results.
+    ///
+    /// ICU classes are counted in a separate run, as logging each loaded class would inflate the timed runs.
+    private static void report(String mode, int runs) throws IOException, InterruptedException {
+        long[] elapsed = new long[runs];
+        long[] uptimes = new long[runs];
+
+        for (int i = 0; i < runs; i++) {
+            String[] result = null;
+
+            for (String line : runChild(mode, false)) {
+                if (line.startsWith(RESULT_PREFIX)) {
+                    result = line.substring(RESULT_PREFIX.length()).split(" ");
+                }
+            }
+
+            if (result == null) {
+                throw new IllegalStateException("Run " + i + " of " + mode + " reported no result");
+            }
+            elapsed[i] = Long.parseLong(result[0]);
+            uptimes[i] = Long.parseLong(result[1]);
+        }
+
+        System.out.printf(
+            "%-10s %14.2f %14d %14d%n",
+            mode, median(elapsed) / 1_000_000.0, median(uptimes), countIcuClasses(mode)
+        );
+    }
+
+    /// {@return The number of ICU classes loaded by a child JVM prior to its result}
+    private static long countIcuClasses(String mode) throws IOException, InterruptedException {
+        long icuClasses = 0;
+
+        for (String line : runChild(mode, true)) {
+            if (line.startsWith(RESULT_PREFIX)) {
+                return icuClasses;
+            } else if (line.contains(ICU_PACKAGE)) {
+                icuClasses++;
+            }
+        }
+        throw new IllegalStateException("Counting run of " + mode + " reported no result");
+    }
+
+    /// Runs a child JVM to completion.
+    ///
+    /// @param mode           Lookup measured by the child.
+    /// @param isClassLogging Whether the child logs each loaded class to its output.
+    /// @return               Lines of the child's output.
+    private static List<String> runChild(String mode, boolean isClassLogging) throws IOException, InterruptedException {
+        Process process = new ProcessBuilder(getChildCommand(mode, isClassLogging)).redirectErrorStream(true).start();
+        List<String> lines = new ArrayList<>();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines.add(line);
+            }
+        }
+
+        if (process.waitFor() != 0) {
+            throw new IllegalStateException("Run of " + mode + " failed");
+        }
+        return lines;
+    }
+
+    private static List<String> getChildCommand(String mode, boolean isClassLogging) {
+        List<String> command = new ArrayList<>();
+        String modulePath = System.getProperty("jdk.module.path");
+
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        if (isClassLogging) {
+            command.add("-Xlog:class+load=info:stdout");
+        }
+
+        if (modulePath != null) {
+            command.addAll(List.of("--module-path", modulePath));
+            command.addAll(List.of("-m", StartupBenchmark.class.getModule().getName() + "/" + StartupBenchmark.class.getName()));
+        } else {
+            command.addAll(List.of("-cp", System.getProperty("java.class.path"), StartupBenchmark.class.getName()));
+        }
+
+        command.add(mode);
+        return command;
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+}
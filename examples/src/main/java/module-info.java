@@ -4,6 +4,8 @@
 module com.devinsterling.localize.examples {
     requires com.devinsterling.localize.fx;
     requires javafx.controls;
+    requires java.management;
+    requires jdk.management;
 
     exports com.devinsterling.localize.examples to javafx.graphics;
 }
\ No newline at end of file
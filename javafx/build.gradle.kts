@@ -1,3 +1,5 @@
+import org.javamodularity.moduleplugin.extensions.TestModuleOptions
+
 plugins {
     id("java-library-convention")
     id("subproject-convention")
@@ -14,4 +16,47 @@ javafx {
 
 dependencies {
     api(project(":Localize"))
+    testRuntimeOnly(libs.monocle)
+}
+
+tasks {
+    test {
+        useJUnitPlatform {
+            excludeTags("benchmark")
+        }
+    }
+
+    // Headless binding-scale benchmark, e.g., `./gradlew :LocalizeFX:benchmark`
+    register<Test>("benchmark") {
+        description = "Runs the headless JavaFX binding benchmarks against their budgets."
+        group = "verification"
+        testClassesDirs = sourceSets.test.get().output.classesDirs
+        classpath = sourceSets.test.get().runtimeClasspath
+        maxHeapSize = "2g"
+        outputs.upToDateWhen { false }
+
+        useJUnitPlatform {
+            includeTags("benchmark")
+        }
+
+        // Monocle replaces the glass platform, which is only possible on the classpath
+        extensions.configure<TestModuleOptions> {
+            runOnClasspath = true
+        }
+
+        systemProperty("glass.platform", "Monocle")
+        systemProperty("monocle.platform", "Headless")
+        systemProperty("prism.order", "sw")
+        systemProperty("prism.text", "t2k")
+        systemProperty("java.awt.headless", "true")
+
+        // Forward budget overrides, e.g., `-Plocalize.benchmark.tolerance=0.5`
+        providers.gradlePropertiesPrefixedBy("localize.benchmark.").get().forEach { (key, value) ->
+            systemProperty(key, value)
+        }
+
+        testLogging {
+            showStandardStreams = true
+        }
+    }
 }
@@ -0,0 +1,188 @@
+package com.devinsterling.localize.fx;
+
+import javafx.beans.binding.StringBinding;
+
+import java.lang.ref.Cleaner;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/// Instrumentation of the string bindings driven by a [LocalizeFX] instance.
+///
+/// Useful for sizing UI thread budgets of large scenes, such as how many bindings
+/// are alive and how expensive a locale change is on the FX application thread.
+///
+/// ### Example Usage
+/// ```
+/// localize.setBindingMetricsEnabled(true);
+/// FXBindingMetrics metrics = localize.getBindingMetrics();
+/// localize.setLocale(Locale.JAPANESE);
+///
+/// System.out.println(metrics.getLiveBindingCount() + " bindings, "
+///                    + metrics.getLastRecomputationCount() + " recomputed in "
+///                    + metrics.getLastRecomputationNanos() + "ns");
+/// ```
+///
+/// Metrics are only gathered while enabled through [LocalizeFX#setBindingMetricsEnabled(boolean)],
+/// as tracking adds a registration per binding and timing per recomputation.
+///
+/// A binding is considered alive from its creation until it is either
+/// disposed through [StringBinding#dispose()] or garbage collected.
+///
+/// All methods of this class are **thread-safe**.
+///
+/// @see LocalizeFX#getBindingMetrics()
+/// @since 1.4
+public final class FXBindingMetrics {
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    private final Map<String, Integer> liveBindingsPerKey = new ConcurrentHashMap<>();
+    private final AtomicInteger liveBindings = new AtomicInteger();
+    private final AtomicInteger pendingNotifications = new AtomicInteger();
+    private final LongAdder notifications = new LongAdder();
+    private final LongAdder recomputations = new LongAdder();
+    private final LongAdder recomputationNanos = new LongAdder();
+    private final LongAdder notificationNanos = new LongAdder();
+    private final AtomicLong lastRecomputations = new AtomicLong();
+    private final AtomicLong lastRecomputationNanos = new AtomicLong();
+    private final AtomicLong lastNotificationNanos = new AtomicLong();
+
+    FXBindingMetrics() {}
+
+    /// {@return The number of bindings currently alive}
+    public int getLiveBindingCount() {
+        return liveBindings.get();
+    }
+
+    /// @param key Resource bundle key.
+    /// @return    The number of bindings currently alive for the given key.
+    public int getLiveBindingCount(String key) {
+        return liveBindingsPerKey.getOrDefault(key, 0);
+    }
+
+    /// {@return Immutable snapshot of the number of bindings currently alive per key}
+    public Map<String, Integer> getLiveBindingCounts() {
+        return Map.copyOf(liveBindingsPerKey);
+    }
+
+    /// {@return The number of notifications (e.g., locale changes or refreshes) sent to all bindings}
+    public long getNotificationCount() {
+        return notifications.sum();
+    }
+
+    /// {@return The total number of binding recomputations}
+    public long getRecomputationCount() {
+        return recomputations.sum();
+    }
+
+    /// {@return The number of binding recomputations since the most recent notification}
+    public long getLastRecomputationCount() {
+        return lastRecomputations.get();
+    }
+
+    /// {@return The average number of binding recomputations per notification}
+    public double getRecomputationsPerNotification() {
+        long count = notifications.sum();
+        return count == 0 ? 0 : (double) recomputations.sum() / count;
+    }
+
+    /// {@return The total time in nanoseconds spent recomputing bindings}
+    public long getRecomputationNanos() {
+        return recomputationNanos.sum();
+    }
+
+    /// {@return The time in nanoseconds spent recomputing bindings since the most recent notification}
+    public long getLastRecomputationNanos() {
+        return lastRecomputationNanos.get();
+    }
+
+    /// The total time in nanoseconds spent firing notifications on the FX application thread.
+    ///
+    /// This includes all listeners that eagerly recompute their value upon invalidation.
+    ///
+    /// @return The total notification time in nanoseconds.
+    public long getNotificationNanos() {
+        return notificationNanos.sum();
+    }
+
+    /// {@return The time in nanoseconds spent firing the most recent notification}
+    /// @see #getNotificationNanos()
+    public long getLastNotificationNanos() {
+        return lastNotificationNanos.get();
+    }
+
+    /// {@return The number of notifications queued for the FX application thread that have yet to run}
+    public int getPendingNotificationCount() {
+        return pendingNotifications.get();
+    }
+
+    /// Resets all counters and timings.
+    ///
+    /// Live binding counts and pending notifications are unaffected as they reflect current state.
+    public void reset() {
+        notifications.reset();
+        recomputations.reset();
+        recomputationNanos.reset();
+        notificationNanos.reset();
+        lastRecomputations.set(0);
+        lastRecomputationNanos.set(0);
+        lastNotificationNanos.set(0);
+    }
+
+    @Override public String toString() {
+        return "FXBindingMetrics[liveBindings=" + getLiveBindingCount() +
+                ", notifications=" + getNotificationCount() +
+                ", recomputations=" + getRecomputationCount() +
+                ", recomputationNanos=" + getRecomputationNanos() +
+                ", pendingNotifications=" + getPendingNotificationCount() + "]";
+    }
+
+    /// Tracks the lifetime of `binding` until it is disposed or garbage collected.
+    ///
+    /// @return The action to run once the binding is disposed.
+    Runnable track(String key, StringBinding binding) {
+        liveBindings.incrementAndGet();
+        liveBindingsPerKey.merge(key, 1, Integer::sum);
+
+        // The cleaning action must not reference the binding, otherwise it is never collected
+        return CLEANER.register(binding, () -> {
+            liveBindings.decrementAndGet();
+            liveBindingsPerKey.computeIfPresent(key, (k, count) -> count == 1 ? null : count - 1);
+        })::clean;
+    }
+
+    void recordRecomputation(long nanos) {
+        recomputations.increment();
+        recomputationNanos.add(nanos);
+        lastRecomputations.incrementAndGet();
+        lastRecomputationNanos.addAndGet(nanos);
+    }
+
+    /// Runs the given notification while measuring its duration on the FX application thread.
+    void runNotification(Runnable notification) {
+        // Recomputations from here on out are attributed to this notification
+        notifications.increment();
+        lastRecomputations.set(0);
+        lastRecomputationNanos.set(0);
+
+        long start = System.nanoTime();
+        try {
+            notification.run();
+        } finally {
+            long nanos = System.nanoTime() - start;
+            notificationNanos.add(nanos);
+            lastNotificationNanos.set(nanos);
+        }
+    }
+
+    /// Wraps the given runnable to count it as pending until it runs.
+    Runnable queued(Runnable runnable) {
+        pendingNotifications.incrementAndGet();
+        return () -> {
+            pendingNotifications.decrementAndGet();
+            runnable.run();
+        };
+    }
+}
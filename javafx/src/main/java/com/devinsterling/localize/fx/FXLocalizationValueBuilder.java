@@ -7,11 +7,14 @@ import javafx.beans.Observable;
 import javafx.beans.binding.Bindings;
 import javafx.beans.binding.StringBinding;
 import javafx.beans.value.ObservableValue;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
 
 /// Builder to provide an observable string binding
 /// of a formatted localized value.
@@ -20,6 +23,7 @@ import java.util.Set;
 /// @since 1.0
 public class FXLocalizationValueBuilder<B extends FXLocalizationValueBuilder<B>> extends LocalizationValueBuilder<B> {
     private final ObservableValue<?> locale;
+    private final FXBindingMetrics metrics;
 
     /// Creates a builder to request a specified localized binding.
     ///
@@ -28,8 +32,14 @@ public class FXLocalizationValueBuilder<B extends FXLocalizationValueBuilder<B>>
     /// @param applier Callback to apply the properties of this builder
     ///                to the requested value.
     public FXLocalizationValueBuilder(String key, ObservableValue<?> locale, Applier applier) {
+        this(key, locale, applier, null);
+    }
+
+    /// Creates a builder whose bindings are tracked by the given metrics, if not `null`.
+    FXLocalizationValueBuilder(String key, ObservableValue<?> locale, Applier applier, FXBindingMetrics metrics) {
         super(key, applier);
         this.locale = locale;
+        this.metrics = metrics;
     }
 
     /// Retrieves an observable formatted string with all properties applied from this builder.
@@ -46,16 +56,19 @@ public class FXLocalizationValueBuilder<B extends FXLocalizationValueBuilder<B>>
         // Retrieve a snapshot
         Map<String, Object> arguments = Map.copyOf(getArguments());
 
-        return Bindings.createStringBinding(
-            () -> applier.evaluate(
-                LocalizationRequest.Builder
-                    .of(key)
-                    .defaultValue(defaultValue)
-                    .arguments(swapObservables(arguments))
-                    .build()
-            ),
-            getObservables(this.locale, arguments)
+        Supplier<String> evaluation = () -> applier.evaluate(
+            LocalizationRequest.Builder
+                .of(key)
+                .defaultValue(defaultValue)
+                .arguments(swapObservables(arguments))
+                .build()
         );
+        Observable[] observables = getObservables(this.locale, arguments);
+
+        if (metrics == null) {
+            return Bindings.createStringBinding(evaluation::get, observables);
+        }
+        return new TrackedStringBinding(key, evaluation, observables, metrics);
     }
 
     /// @return An array containing provided `locale` + all extracted observables from `arguments`.
@@ -85,4 +98,41 @@ public class FXLocalizationValueBuilder<B extends FXLocalizationValueBuilder<B>>
 
         return normalizedMap;
     }
+
+    /// String binding that reports its lifetime and recomputations to [FXBindingMetrics].
+    private static final class TrackedStringBinding extends StringBinding {
+        private final Supplier<String> evaluation;
+        private final Observable[] observables;
+        private final FXBindingMetrics metrics;
+        private final Runnable untrack;
+
+        private TrackedStringBinding(String key,
+                                     Supplier<String> evaluation,
+                                     Observable[] observables,
+                                     FXBindingMetrics metrics) {
+            this.evaluation = evaluation;
+            this.observables = observables;
+            this.metrics = metrics;
+            this.untrack = metrics.track(key, this);
+            bind(observables);
+        }
+
+        @Override protected String computeValue() {
+            long start = System.nanoTime();
+            try {
+                return evaluation.get();
+            } finally {
+                metrics.recordRecomputation(System.nanoTime() - start);
+            }
+        }
+
+        @Override public void dispose() {
+            unbind(observables);
+            untrack.run();
+        }
+
+        @Override public ObservableList<?> getDependencies() {
+            return FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(observables));
+        }
+    }
 }
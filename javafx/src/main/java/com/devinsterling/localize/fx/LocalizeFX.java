@@ -11,6 +11,7 @@ import javafx.beans.property.SimpleObjectProperty;
 
 import java.util.Locale;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -50,6 +51,8 @@ import java.util.concurrent.atomic.AtomicReference;
 /// ```
 /// @since 1.0
 public abstract class LocalizeFX extends Localize {
+    private final FXBindingMetrics bindingMetrics = new FXBindingMetrics();
+    private volatile boolean isBindingMetricsEnabled = false;
 
     /// Creates a [LocalizeFX] instance with the desired configuration.
     ///
@@ -76,6 +79,39 @@ public abstract class LocalizeFX extends Localize {
     /// to listeners, triggering all string bindings to update.
     protected abstract void notifyListeners();
 
+    /// Instrumentation of all string bindings created by this instance.
+    ///
+    /// Includes live binding counts, recomputations per notification, time spent recomputing
+    /// after a locale change or refresh, and notifications queued for the FX application thread.
+    ///
+    /// Metrics are only gathered while enabled through [#setBindingMetricsEnabled(boolean)].
+    ///
+    /// @return **Thread-safe** binding metrics of this instance.
+    /// @since 1.4
+    public FXBindingMetrics getBindingMetrics() {
+        return bindingMetrics;
+    }
+
+    /// Sets whether string bindings and notifications are measured by [#getBindingMetrics()].
+    ///
+    /// When disabled, bindings are created through [javafx.beans.binding.Bindings#createStringBinding],
+    /// without registering their lifetime or timing their recomputations.
+    /// Only bindings created while enabled are tracked, and remain tracked once disabled.
+    ///
+    /// The initial value is `false`.
+    ///
+    /// @param isBindingMetricsEnabled `true` to measure bindings created from here on out and all notifications.
+    /// @since 1.4
+    public void setBindingMetricsEnabled(boolean isBindingMetricsEnabled) {
+        this.isBindingMetricsEnabled = isBindingMetricsEnabled;
+    }
+
+    /// {@return `true`, if bindings and notifications are measured by [#getBindingMetrics()]}
+    /// @since 1.4
+    public boolean isBindingMetricsEnabled() {
+        return isBindingMetricsEnabled;
+    }
+
     /// Equivalent to [#of(Locale, LocalizeConfig)] with the
     /// initial locale set as [Locale#getDefault()] and default configuration.
     ///
@@ -119,8 +155,8 @@ public abstract class LocalizeFX extends Localize {
     ///
     /// ### Note
     /// Adding providers will update any active string bindings (e.g., from [#getBinding(String)]).
-    @Override public boolean putBundleProvider(String key, ResourceBundleProvider provider) {
-        boolean isNewProvider = super.putBundleProvider(key, provider);
+    @Override public boolean putBundleProvider(String key, ResourceBundleProvider provider, Set<String> prefixes) {
+        boolean isNewProvider = super.putBundleProvider(key, provider, prefixes);
         notifyListeners();
         return isNewProvider;
     }
@@ -168,7 +204,9 @@ public abstract class LocalizeFX extends Localize {
 
     /// {@inheritDoc}
     @Override public FXLocalizationValueBuilder<?> get(String key) {
-        return new FXLocalizationValueBuilder<>(key, localeProperty(), this::applyBuilderProperties);
+        return new FXLocalizationValueBuilder<>(
+            key, localeProperty(), getApplier(), isBindingMetricsEnabled ? bindingMetrics : null
+        );
     }
 
     /// {@inheritDoc}
@@ -221,7 +259,7 @@ public abstract class LocalizeFX extends Localize {
             if (FXThread.isUIThread()) {
                 localeProperty.forceFireValueChanged();
             } else {
-                FXThread.onUIThread(localeProperty::forceFireValueChanged);
+                FXThread.onUIThread(queued(localeProperty::forceFireValueChanged));
             }
         }
 
@@ -242,17 +280,31 @@ public abstract class LocalizeFX extends Localize {
 
             refresh(locale);
             // Avoid setting the property to a stale `Locale` by checking the version
-            FXThread.onUIThread(() -> {
+            FXThread.onUIThread(queued(() -> {
                 if (this.locale.isCurrent(version)) {
                     localeProperty.setWithoutRefresh(locale);
                 }
-            });
+            }));
         }
 
         @Override public Locale getLocale() {
             return locale.get();
         }
 
+        /// Runs the given notification, measured if binding metrics are enabled.
+        private void runNotification(Runnable notification) {
+            if (isBindingMetricsEnabled()) {
+                getBindingMetrics().runNotification(notification);
+            } else {
+                notification.run();
+            }
+        }
+
+        /// @return The given runnable, counted as pending until it runs if binding metrics are enabled.
+        private Runnable queued(Runnable runnable) {
+            return isBindingMetricsEnabled() ? getBindingMetrics().queued(runnable) : runnable;
+        }
+
         /// NOTE: All methods of this class must be called from the JavaFX UI thread, if available.
         private class LocaleProperty extends SimpleObjectProperty<Locale> {
             private LocaleProperty(Locale locale) {
@@ -265,17 +317,16 @@ public abstract class LocalizeFX extends Localize {
 
                 // Eagerly refresh bundles first before triggering listeners
                 refresh(locale);
-                markValid();
-                super.set(locale);
+                setWithoutRefresh(locale);
             }
 
             private void setWithoutRefresh(Locale locale) {
                 markValid();
-                super.set(locale);
+                runNotification(() -> super.set(locale));
             }
 
             private void forceFireValueChanged() {
-                fireValueChangedEvent();
+                runNotification(this::fireValueChangedEvent);
             }
 
             /// Marks the internal [SimpleObjectProperty] private field `valid` to `true`.
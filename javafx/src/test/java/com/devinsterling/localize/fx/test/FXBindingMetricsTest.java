@@ -0,0 +1,167 @@
+package com.devinsterling.localize.fx.test;
+
+import com.devinsterling.localize.fx.FXBindingMetrics;
+import com.devinsterling.localize.fx.LocalizeFX;
+
+import javafx.beans.binding.StringBinding;
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.SimpleDoubleProperty;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.devinsterling.localize.fx.test.TestUtil.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FXBindingMetricsTest {
+    /// Sink of allocations to trigger garbage collections.
+    private static volatile byte[] garbage;
+
+    @Test void testLiveBindingCount() {
+        LocalizeFX localize = getMeasuredInstance();
+        FXBindingMetrics metrics = localize.getBindingMetrics();
+        assertEquals(0, metrics.getLiveBindingCount());
+
+        StringBinding binding1 = localize.getBinding(TEST_KEY_CLICK_ME);
+        StringBinding binding2 = localize.getBinding(TEST_KEY_CLICK_ME);
+        StringBinding binding3 = localize.getBinding(TEST_KEY_CLICK_LABEL);
+
+        assertEquals(3, metrics.getLiveBindingCount());
+        assertEquals(2, metrics.getLiveBindingCount(TEST_KEY_CLICK_ME));
+        assertEquals(1, metrics.getLiveBindingCount(TEST_KEY_CLICK_LABEL));
+        assertEquals(Map.of(TEST_KEY_CLICK_ME, 2, TEST_KEY_CLICK_LABEL, 1), metrics.getLiveBindingCounts());
+
+        binding1.dispose();
+        binding1.dispose(); // Disposing twice is not counted twice
+        binding3.dispose();
+
+        assertEquals(1, metrics.getLiveBindingCount());
+        assertEquals(1, metrics.getLiveBindingCount(TEST_KEY_CLICK_ME));
+        assertEquals(0, metrics.getLiveBindingCount(TEST_KEY_CLICK_LABEL));
+        assertEquals("Click!", binding2.get());
+    }
+
+    @Test void testLiveBindingCountAfterCollection() throws InterruptedException {
+        LocalizeFX localize = getMeasuredInstance();
+        FXBindingMetrics metrics = localize.getBindingMetrics();
+        List<StringBinding> bindings = new ArrayList<>();
+
+        for (int i = 0; i < 100; i++) {
+            bindings.add(localize.getBinding(TEST_KEY_CLICK_ME));
+        }
+        assertEquals(100, metrics.getLiveBindingCount());
+
+        bindings.clear();
+        // Allocating also triggers collections where explicit collections are disabled
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (metrics.getLiveBindingCount() > 0 && System.nanoTime() < deadline) {
+            System.gc();
+            for (int i = 0; i < 16; i++) {
+                garbage = new byte[1 << 20];
+            }
+            Thread.sleep(20);
+        }
+        assertEquals(0, metrics.getLiveBindingCount());
+    }
+
+    @Test void testDisabledByDefault() {
+        LocalizeFX localize = getLocalizeFXInstance();
+        FXBindingMetrics metrics = localize.getBindingMetrics();
+        assertFalse(localize.isBindingMetricsEnabled());
+
+        StringBinding binding = localize.getBinding(TEST_KEY_CLICK_ME);
+        assertEquals("Click!", binding.get());
+        localize.setLocale(Locale.JAPANESE);
+        binding.get();
+
+        assertEquals(0, metrics.getLiveBindingCount());
+        assertEquals(0, metrics.getRecomputationCount());
+        assertEquals(0, metrics.getNotificationCount());
+
+        // Only bindings created while enabled are tracked
+        localize.setBindingMetricsEnabled(true);
+        localize.getBinding(TEST_KEY_CLICK_ME).get();
+        binding.get();
+        assertEquals(1, metrics.getLiveBindingCount());
+        assertEquals(1, metrics.getRecomputationCount());
+    }
+
+    @Test void testRecomputations() {
+        LocalizeFX localize = getMeasuredInstance();
+        FXBindingMetrics metrics = localize.getBindingMetrics();
+        DoubleProperty clickCount = new SimpleDoubleProperty(1);
+        StringBinding binding1 = localize.getBinding(TEST_KEY_CLICK_ME);
+        StringBinding binding2 = localize.get(TEST_KEY_CLICK_LABEL)
+                                         .arg("click_count", clickCount)
+                                         .arg("name", "John Doe")
+                                         .binding();
+        metrics.reset();
+
+        binding1.get();
+        binding2.get();
+        assertEquals(2, metrics.getRecomputationCount());
+
+        localize.setLocale(Locale.JAPANESE);
+        assertEquals(1, metrics.getNotificationCount());
+        assertEquals(0, metrics.getLastRecomputationCount());
+
+        binding1.get();
+        binding2.get();
+        assertEquals(4, metrics.getRecomputationCount());
+        assertEquals(2, metrics.getLastRecomputationCount());
+        assertTrue(metrics.getLastRecomputationNanos() > 0);
+        assertTrue(metrics.getRecomputationNanos() >= metrics.getLastRecomputationNanos());
+
+        // Argument changes recompute without a notification
+        clickCount.set(2);
+        binding2.get();
+        assertEquals(5, metrics.getRecomputationCount());
+        assertEquals(3, metrics.getLastRecomputationCount());
+        assertEquals(1, metrics.getNotificationCount());
+
+        localize.refresh();
+        assertEquals(2, metrics.getNotificationCount());
+        assertEquals(2.5, metrics.getRecomputationsPerNotification(), 0);
+    }
+
+    @Test void testPendingNotifications() {
+        LocalizeFX localize = getMeasuredInstance();
+        FXBindingMetrics metrics = localize.getBindingMetrics();
+
+        // Without a running FX application thread, notifications run immediately
+        localize.refresh();
+        localize.setLocale(Locale.KOREAN);
+        assertEquals(0, metrics.getPendingNotificationCount());
+    }
+
+    @Test void testReset() {
+        LocalizeFX localize = getMeasuredInstance();
+        FXBindingMetrics metrics = localize.getBindingMetrics();
+        StringBinding binding = localize.getBinding(TEST_KEY_CLICK_ME);
+
+        binding.get();
+        localize.setLocale(Locale.KOREAN);
+        assertEquals(2, metrics.getNotificationCount()); // Including the provider insertion
+        binding.get();
+
+        metrics.reset();
+        assertEquals(0, metrics.getNotificationCount());
+        assertEquals(0, metrics.getRecomputationCount());
+        assertEquals(0, metrics.getRecomputationNanos());
+        assertEquals(0, metrics.getNotificationNanos());
+        assertEquals(1, metrics.getLiveBindingCount());
+    }
+
+    private static LocalizeFX getMeasuredInstance() {
+        LocalizeFX localize = LocalizeFX.of(Locale.ENGLISH);
+        localize.setBindingMetricsEnabled(true);
+        localize.putBundleProvider("key", TEST_PROVIDER);
+        return localize;
+    }
+}
@@ -0,0 +1,213 @@
+package com.devinsterling.localize.fx.test;
+
+import com.devinsterling.localize.fx.FXBindingMetrics;
+import com.devinsterling.localize.fx.LocalizeFX;
+
+import javafx.application.Platform;
+import javafx.beans.binding.StringBinding;
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.SimpleDoubleProperty;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+import static com.devinsterling.localize.fx.test.TestUtil.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/// Headless binding-scale benchmark, run through `./gradlew :LocalizeFX:benchmark`.
+///
+/// Measures per binding:
+/// - Locale switch latency (including the recomputation of every binding).
+/// - Recomputation cost after an observable argument changes.
+/// - Heap retained while the binding is alive.
+///
+/// Each measurement fails when it exceeds the baseline in `benchmark-budget.properties`
+/// by more than the configured tolerance.
+@Tag("benchmark")
+class LocalizeFXBenchmark {
+    private static final String BUDGET_FILE = "/benchmark-budget.properties";
+    private static final String PROPERTY_PREFIX = "localize.benchmark.";
+    /// Every n-th binding has observable arguments.
+    private static final int OBSERVABLE_ARGUMENT_INTERVAL = 10;
+    /// Number of shared observable arguments.
+    private static final int ARGUMENT_POOL_SIZE = 100;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 10;
+    private static final Properties budget = new Properties();
+    private static boolean isToolkitRunning;
+
+    @BeforeAll static void setUp() throws InterruptedException {
+        try (InputStream stream = LocalizeFXBenchmark.class.getResourceAsStream(BUDGET_FILE)) {
+            budget.load(stream);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        // Monocle provides a headless toolkit (see the `benchmark` task)
+        CountDownLatch latch = new CountDownLatch(1);
+        try {
+            Platform.startup(latch::countDown);
+            latch.await();
+            isToolkitRunning = true;
+        } catch (RuntimeException e) {
+            // Measure on the current thread, matching LocalizeFX without a toolkit
+            System.out.println("JavaFX toolkit unavailable, measuring on the current thread: " + e);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1_000, 10_000, 100_000})
+    void benchmarkBindings(int bindingCount) throws Exception {
+        LocalizeFX localize = onFXThread(TestUtil::getLocalizeFXInstance);
+        localize.setBindingMetricsEnabled(true);
+        FXBindingMetrics metrics = localize.getBindingMetrics();
+        DoubleProperty[] arguments = new DoubleProperty[ARGUMENT_POOL_SIZE];
+
+        for (int i = 0; i < arguments.length; i++) {
+            arguments[i] = new SimpleDoubleProperty(i);
+        }
+
+        // Retained memory
+        long heapBefore = usedHeap();
+        StringBinding[] bindings = onFXThread(() -> createBindings(localize, arguments, bindingCount));
+        long heapAfter = usedHeap();
+        double retainedBytes = (double) (heapAfter - heapBefore) / bindingCount;
+
+        assertEquals(bindingCount, metrics.getLiveBindingCount());
+
+        // Locale switches, cycled to ensure every round is an actual change
+        Locale[] locales = {Locale.JAPANESE, Locale.KOREAN, Locale.ENGLISH};
+        long switchNanos = 0;
+        for (int i = 0; i < WARMUP_ROUNDS + MEASURED_ROUNDS; i++) {
+            Locale locale = locales[i % locales.length];
+            long nanos = onFXThread(() -> switchLocale(localize, locale, bindings));
+            if (i >= WARMUP_ROUNDS) switchNanos += nanos;
+        }
+        double switchNanosPerBinding = (double) switchNanos / MEASURED_ROUNDS / bindingCount;
+
+        // Argument changes
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            onFXThread(() -> changeArguments(arguments, bindings));
+        }
+
+        metrics.reset();
+        long argumentNanos = 0;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            argumentNanos += onFXThread(() -> changeArguments(arguments, bindings));
+        }
+        double argumentNanosPerBinding = (double) argumentNanos / metrics.getRecomputationCount();
+
+        System.out.printf(
+            "%,d bindings: locale switch %.1f ns/binding, argument change %.1f ns/binding, %.1f bytes/binding (%s)%n",
+            bindingCount, switchNanosPerBinding, argumentNanosPerBinding, retainedBytes, metrics
+        );
+
+        assertWithinBudget("localeSwitchNanosPerBinding", switchNanosPerBinding);
+        assertWithinBudget("argumentChangeNanosPerBinding", argumentNanosPerBinding);
+        assertWithinBudget("retainedBytesPerBinding", retainedBytes);
+
+        // Keep all bindings reachable until measurements are complete
+        assertEquals(bindingCount, bindings.length);
+    }
+
+    private static StringBinding[] createBindings(LocalizeFX localize, DoubleProperty[] arguments, int count) {
+        StringBinding[] bindings = new StringBinding[count];
+
+        for (int i = 0; i < count; i++) {
+            if (i % OBSERVABLE_ARGUMENT_INTERVAL == 0) {
+                bindings[i] = localize.get(TEST_KEY_CLICK_LABEL)
+                                      .arg("click_count", arguments[i / OBSERVABLE_ARGUMENT_INTERVAL % arguments.length])
+                                      .arg("name", "John Doe")
+                                      .binding();
+            } else {
+                bindings[i] = localize.getBinding(TEST_KEY_CLICK_ME);
+            }
+            bindings[i].get();
+        }
+
+        return bindings;
+    }
+
+    /// @return Nanoseconds to switch the locale and recompute every binding.
+    private static long switchLocale(LocalizeFX localize, Locale locale, StringBinding[] bindings) {
+        long start = System.nanoTime();
+        localize.setLocale(locale);
+        readAll(bindings);
+        return System.nanoTime() - start;
+    }
+
+    /// @return Nanoseconds to change every argument and recompute every dependent binding.
+    private static long changeArguments(DoubleProperty[] arguments, StringBinding[] bindings) {
+        long start = System.nanoTime();
+        for (DoubleProperty argument : arguments) {
+            argument.set(argument.get() + 1);
+        }
+        readAll(bindings);
+        return System.nanoTime() - start;
+    }
+
+    private static void readAll(StringBinding[] bindings) {
+        for (StringBinding binding : bindings) {
+            binding.get();
+        }
+    }
+
+    private static void assertWithinBudget(String name, double measured) {
+        double tolerance = Double.parseDouble(getBudgetProperty("tolerance"));
+        double baseline = Double.parseDouble(getBudgetProperty(name));
+        double limit = baseline * (1 + tolerance);
+
+        assertTrue(
+            measured <= limit,
+            () -> String.format("%s regressed: %.1f exceeds baseline %.1f by more than %.0f%%",
+                                name, measured, baseline, tolerance * 100)
+        );
+    }
+
+    private static String getBudgetProperty(String name) {
+        return System.getProperty(PROPERTY_PREFIX + name, budget.getProperty(name));
+    }
+
+    private static long usedHeap() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        long used = Long.MAX_VALUE;
+
+        // Repeat until the collector no longer frees memory
+        for (int i = 0; i < 10; i++) {
+            System.gc();
+            Thread.sleep(50);
+            long current = runtime.totalMemory() - runtime.freeMemory();
+            if (current >= used) break;
+            used = current;
+        }
+
+        return used;
+    }
+
+    private static <T> T onFXThread(Callable<T> callable) throws Exception {
+        if (!isToolkitRunning) {
+            return callable.call();
+        }
+
+        FutureTask<T> task = new FutureTask<>(callable);
+        Platform.runLater(task);
+        try {
+            return task.get();
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        }
+    }
+}
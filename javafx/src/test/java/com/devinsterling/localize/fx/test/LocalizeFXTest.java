@@ -11,6 +11,7 @@ import org.junit.jupiter.api.Test;
 import java.util.ListResourceBundle;
 import java.util.Locale;
 import java.util.ResourceBundle;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 
@@ -88,6 +89,18 @@ class LocalizeFXTest {
         assertEquals("Click!?", binding.get());
     }
 
+    @Test void testPutBundleProviderPrefixesRefresh() {
+        LocalizeFX localize = LocalizeFX.of(Locale.ENGLISH);
+        StringBinding binding = localize.getBinding(TEST_KEY_CLICK_ME);
+        assertEquals("", binding.get());
+
+        localize.putBundleProvider("provider", TEST_PROVIDER, Set.of("MyApp."));
+        assertEquals("Click!", binding.get());
+
+        localize.putBundleProvider("provider", TEST2_PROVIDER, Set.of("MyApp."));
+        assertEquals("Click!?", binding.get());
+    }
+
     @Test void testRemoveBundleProviderRefresh() {
         LocalizeFX localize = LocalizeFX.of(Locale.JAPANESE);
         StringBinding binding = localize.getBinding(TEST_KEY_CLICK_ME);
@@ -0,0 +1,20 @@
+import org.javamodularity.moduleplugin.extensions.TestModuleOptions
+
+plugins {
+    id("java-library-convention")
+    id("subproject-convention")
+    id("publish-convention")
+}
+
+description = "Localize annotation processor generating typed message accessors."
+
+dependencies {
+    testImplementation(project(":Localize"))
+}
+
+tasks.test {
+    // Generated sources are compiled against the test classpath
+    extensions.configure<TestModuleOptions> {
+        runOnClasspath = true
+    }
+}
@@ -0,0 +1,207 @@
+package com.devinsterling.localize.processor;
+
+import javax.lang.model.SourceVersion;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/// Source of an accessor class with a typed method for each message of a bundle.
+final class AccessorSource {
+    /// Names of methods declared by [Object], which generated methods must not override.
+    private static final Set<String> OBJECT_METHODS = Set.of(
+        "getClass", "hashCode", "equals", "clone", "toString", "notify", "notifyAll", "wait", "finalize"
+    );
+
+    private final String packageName;
+    private final String className;
+    private final String annotatedType;
+    private final String bundle;
+    private final List<Message> messages = new ArrayList<>();
+
+    /// @param packageName   Package of the generated class, or an empty string if unnamed.
+    /// @param className     Simple name of the generated class.
+    /// @param annotatedType Qualified name of the annotated type.
+    /// @param bundle        Base name of the bundle.
+    /// @param patterns      Patterns of the bundle by key.
+    /// @throws IllegalArgumentException If any pattern is malformed.
+    AccessorSource(String packageName, String className, String annotatedType, String bundle, Map<String, String> patterns) {
+        this.packageName = packageName;
+        this.className = className;
+        this.annotatedType = annotatedType;
+        this.bundle = bundle;
+
+        // Sorted for a deterministic output, regardless of the order of the bundle
+        Map<String, String> sortedPatterns = new TreeMap<>(patterns);
+        Map<String, Integer> shortNameCounts = new HashMap<>();
+        for (String key : sortedPatterns.keySet()) {
+            shortNameCounts.merge(toIdentifier(key.substring(key.lastIndexOf('.') + 1), "message"), 1, Integer::sum);
+        }
+
+        Set<String> methodNames = new HashSet<>();
+        for (Map.Entry<String, String> entry : sortedPatterns.entrySet()) {
+            String key = entry.getKey();
+            String shortName = toIdentifier(key.substring(key.lastIndexOf('.') + 1), "message");
+            String methodName = shortNameCounts.get(shortName) == 1 ? shortName : toIdentifier(key, "message");
+
+            if (OBJECT_METHODS.contains(methodName)) {
+                methodName += "Message";
+            }
+            methodName = toUnique(methodName, methodNames);
+
+            Map<String, MessageArguments.Type> arguments;
+            try {
+                arguments = MessageArguments.parse(entry.getValue());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Malformed pattern of " + key + ": " + e.getMessage(), e);
+            }
+
+            messages.add(new Message(key, entry.getValue(), methodName, arguments));
+        }
+    }
+
+    /// {@return The fully qualified name of the generated class}
+    String getQualifiedName() {
+        return packageName.isEmpty() ? className : packageName + "." + className;
+    }
+
+    /// {@return The source of the generated class}
+    String toSource() {
+        StringBuilder source = new StringBuilder();
+
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("import com.devinsterling.localize.Localize;\n")
+              .append("import com.devinsterling.localize.PreparedMessage;\n\n")
+              .append("/// Typed accessors of the messages of the `").append(bundle).append("` bundle,\n")
+              .append("/// generated from [").append(annotatedType).append("]. **Do not edit.**\n")
+              .append("public final class ").append(className).append(" {\n");
+
+        for (Message message : messages) {
+            source.append("    private final PreparedMessage ").append(message.methodName).append(";\n");
+        }
+
+        source.append("\n    /// Prepares all messages of the `").append(bundle).append("` bundle.\n")
+              .append("    ///\n")
+              .append("    /// @param localize Instance to format messages with.\n")
+              .append("    public ").append(className).append("(Localize localize) {\n");
+        for (Message message : messages) {
+            source.append("        this.").append(message.methodName).append(" = localize.prepare(")
+                  .append(toLiteral(message.key));
+            for (String argument : message.arguments.keySet()) {
+                source.append(", ").append(toLiteral(argument));
+            }
+            source.append(");\n");
+        }
+        source.append("    }\n");
+
+        for (Message message : messages) {
+            List<String> parameters = getParameterNames(message);
+            int index = 0;
+
+            source.append("\n    /// `").append(toComment(message.key)).append("`: `")
+                  .append(toComment(message.pattern)).append("`\n")
+                  .append("    public String ").append(message.methodName).append('(');
+            for (MessageArguments.Type type : message.arguments.values()) {
+                if (index > 0) source.append(", ");
+                source.append(type.getJavaType()).append(' ').append(parameters.get(index++));
+            }
+            source.append(") {\n")
+                  .append("        return this.").append(message.methodName).append(".format(")
+                  .append(String.join(", ", parameters))
+                  .append(");\n")
+                  .append("    }\n");
+        }
+
+        return source.append("}\n").toString();
+    }
+
+    private static List<String> getParameterNames(Message message) {
+        List<String> names = new ArrayList<>();
+        Set<String> used = new HashSet<>();
+
+        for (String argument : message.arguments.keySet()) {
+            names.add(toUnique(toIdentifier(argument, "arg"), used));
+        }
+        return names;
+    }
+
+    /// Converts the given name to a camel case identifier (e.g., `click_count` → `clickCount`).
+    ///
+    /// @param name   Name to convert.
+    /// @param prefix Prefix if the name does not start with a letter (e.g., `0` → `arg0`).
+    /// @return       A valid Java identifier.
+    static String toIdentifier(String name, String prefix) {
+        StringBuilder identifier = new StringBuilder();
+        boolean isUpper = false;
+
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+
+            if (!Character.isJavaIdentifierPart(c) || c == '_' || c == '$') {
+                isUpper = identifier.length() > 0;
+            } else if (identifier.length() == 0) {
+                identifier.append(Character.toLowerCase(c));
+            } else {
+                identifier.append(isUpper ? Character.toUpperCase(c) : c);
+                isUpper = false;
+            }
+        }
+
+        if (identifier.length() == 0 || !Character.isJavaIdentifierStart(identifier.charAt(0))) {
+            identifier.insert(0, prefix);
+        }
+        if (SourceVersion.isKeyword(identifier)) {
+            identifier.append('_');
+        }
+        return identifier.toString();
+    }
+
+    private static String toUnique(String name, Set<String> used) {
+        String unique = name;
+        for (int i = 2; !used.add(unique); i++) {
+            unique = name + i;
+        }
+        return unique;
+    }
+
+    private static String toLiteral(String value) {
+        StringBuilder literal = new StringBuilder("\"");
+
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> literal.append("\\\"");
+                case '\\' -> literal.append("\\\\");
+                case '\n' -> literal.append("\\n");
+                case '\r' -> literal.append("\\r");
+                case '\t' -> literal.append("\\t");
+                default -> {
+                    if (c < 0x20 || c > 0x7E) {
+                        literal.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        literal.append(c);
+                    }
+                }
+            }
+        }
+        return literal.append('"').toString();
+    }
+
+    /// {@return The given text on a single line without backticks, to fit a Markdown code span}
+    private static String toComment(String text) {
+        // javac translates unicode escapes even in comments, so backslashes are written as the escape of one
+        return text.replaceAll("\\s+", " ").replace('`', '\'').replace("\\", "\\u005c");
+    }
+
+    private record Message(String key, String pattern, String methodName, Map<String, MessageArguments.Type> arguments) {
+        private Message {
+            arguments = new LinkedHashMap<>(arguments);
+        }
+    }
+}
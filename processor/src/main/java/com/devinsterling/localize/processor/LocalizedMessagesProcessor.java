@@ -0,0 +1,197 @@
+package com.devinsterling.localize.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileManager;
+import javax.tools.StandardLocation;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+/// Generates typed accessor classes for types annotated with `com.devinsterling.localize.LocalizedMessages`.
+///
+/// The root `.properties` file of each bundle is looked up in the following order:
+/// 1. Directories of the `localize.resourceDirs` option, separated by the path separator or commas
+///    (e.g., `-Alocalize.resourceDirs=src/main/resources`).
+/// 2. The source path.
+/// 3. The class output, if resources are copied prior to compilation.
+///
+/// With Gradle, for example:
+/// ```kotlin
+/// dependencies {
+///     annotationProcessor("com.devinsterling:localize-processor:<version>")
+/// }
+///
+/// tasks.compileJava {
+///     options.compilerArgs.add("-Alocalize.resourceDirs=${file("src/main/resources")}")
+/// }
+/// ```
+@SupportedAnnotationTypes(LocalizedMessagesProcessor.ANNOTATION)
+@SupportedOptions(LocalizedMessagesProcessor.RESOURCE_DIRS_OPTION)
+public final class LocalizedMessagesProcessor extends AbstractProcessor {
+    static final String ANNOTATION = "com.devinsterling.localize.LocalizedMessages";
+    static final String RESOURCE_DIRS_OPTION = "localize.resourceDirs";
+
+    /// Creates a processor instance, as instantiated by the compiler.
+    public LocalizedMessagesProcessor() {}
+
+    @Override public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element instanceof TypeElement type) {
+                    generate(type);
+                }
+            }
+        }
+        return true;
+    }
+
+    private void generate(TypeElement type) {
+        AnnotationMirror mirror = getAnnotationMirror(type);
+        String bundle = getValue(mirror, "bundle");
+        String className = getValue(mirror, "className");
+        String packageName = getPackage(type).getQualifiedName().toString();
+
+        if (bundle == null || bundle.isBlank()) {
+            error(type, mirror, "Bundle must not be blank");
+            return;
+        }
+        if (className == null || className.isEmpty()) {
+            className = type.getSimpleName() + "Messages";
+        } else if (!SourceVersion.isIdentifier(className) || SourceVersion.isKeyword(className)) {
+            error(type, mirror, "Invalid class name: " + className);
+            return;
+        }
+
+        try {
+            Map<String, String> patterns = readBundle(bundle);
+            if (patterns == null) {
+                error(type, mirror, "Cannot find " + toPath(bundle) + ", consider setting -A" + RESOURCE_DIRS_OPTION);
+                return;
+            }
+
+            AccessorSource source = new AccessorSource(
+                packageName, className, type.getQualifiedName().toString(), bundle, patterns
+            );
+            try (Writer writer = processingEnv.getFiler().createSourceFile(source.getQualifiedName(), type).openWriter()) {
+                writer.write(source.toSource());
+            }
+        } catch (IllegalArgumentException | IOException e) {
+            error(type, mirror, "Cannot generate accessors of " + bundle + ": " + e.getMessage());
+        }
+    }
+
+    /// @return Patterns of the root bundle by key, or `null` if not found.
+    private Map<String, String> readBundle(String bundle) throws IOException {
+        String path = toPath(bundle);
+        String resourceDirs = processingEnv.getOptions().get(RESOURCE_DIRS_OPTION);
+
+        if (resourceDirs != null) {
+            for (String dir : resourceDirs.replace(File.pathSeparator, ",").split(",")) {
+                Path file = Path.of(dir.trim()).resolve(path);
+
+                if (!dir.isBlank() && Files.isRegularFile(file)) {
+                    return parse(Files.readAllBytes(file));
+                }
+            }
+        }
+
+        Filer filer = processingEnv.getFiler();
+        for (JavaFileManager.Location location : List.of(StandardLocation.SOURCE_PATH, StandardLocation.CLASS_OUTPUT)) {
+            try {
+                FileObject file = filer.getResource(location, "", path);
+                try (InputStream stream = file.openInputStream()) {
+                    return parse(stream.readAllBytes());
+                }
+            } catch (IOException | IllegalArgumentException ignored) {
+                // Not found in, or not supported by, this location
+            }
+        }
+        return null;
+    }
+
+    /// Parses properties as UTF-8, falling back to ISO-8859-1, as [java.util.PropertyResourceBundle] does.
+    private static Map<String, String> parse(byte[] bytes) throws IOException {
+        String content;
+        try {
+            content = StandardCharsets.UTF_8.newDecoder()
+                                            .onMalformedInput(CodingErrorAction.REPORT)
+                                            .onUnmappableCharacter(CodingErrorAction.REPORT)
+                                            .decode(ByteBuffer.wrap(bytes))
+                                            .toString();
+        } catch (CharacterCodingException e) {
+            content = new String(bytes, StandardCharsets.ISO_8859_1);
+        }
+
+        Properties properties = new Properties();
+        properties.load(new StringReader(content));
+
+        Map<String, String> patterns = new LinkedHashMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            patterns.put(key, properties.getProperty(key));
+        }
+        return patterns;
+    }
+
+    private static String toPath(String bundle) {
+        return bundle.replace('.', '/') + ".properties";
+    }
+
+    private static PackageElement getPackage(Element element) {
+        while (!(element instanceof PackageElement packageElement)) {
+            element = element.getEnclosingElement();
+        }
+        return packageElement;
+    }
+
+    private static AnnotationMirror getAnnotationMirror(TypeElement type) {
+        for (AnnotationMirror mirror : type.getAnnotationMirrors()) {
+            if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(ANNOTATION)) {
+                return mirror;
+            }
+        }
+        throw new IllegalStateException("Missing annotation on " + type);
+    }
+
+    private static String getValue(AnnotationMirror mirror, String name) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : mirror.getElementValues().entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(name)) {
+                return String.valueOf(entry.getValue().getValue());
+            }
+        }
+        return null;
+    }
+
+    private void error(Element element, AnnotationMirror mirror, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element, mirror);
+    }
+}
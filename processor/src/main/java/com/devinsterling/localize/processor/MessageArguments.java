@@ -0,0 +1,195 @@
+package com.devinsterling.localize.processor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/// Extracts the arguments of an ICU message pattern, including those nested in
+/// `plural`, `select`, and `selectordinal` sub-messages.
+///
+/// Quoting follows the default ICU apostrophe mode, where an apostrophe only starts
+/// quoted text if followed by a syntax character, and two apostrophes form a literal one.
+final class MessageArguments {
+    private static final Set<String> NUMBER_TYPES = Set.of(
+        "plural", "selectordinal", "number", "choice", "spellout", "ordinal", "duration"
+    );
+    private static final Set<String> SUB_MESSAGE_TYPES = Set.of("plural", "selectordinal", "select");
+
+    private final String pattern;
+    private final Map<String, Type> arguments = new LinkedHashMap<>();
+
+    private MessageArguments(String pattern) {
+        this.pattern = pattern;
+    }
+
+    /// @param pattern Pattern to parse.
+    /// @return        Types of all arguments by name, in order of first appearance.
+    /// @throws IllegalArgumentException If the pattern is malformed.
+    static Map<String, Type> parse(String pattern) {
+        MessageArguments parser = new MessageArguments(pattern);
+        parser.parseMessage(0, 0, false);
+        return parser.arguments;
+    }
+
+    /// @return Index after the closing brace of the message, or the pattern length if top-level.
+    private int parseMessage(int index, int depth, boolean isPlural) {
+        while (index < pattern.length()) {
+            char c = pattern.charAt(index);
+
+            if (c == '\'') {
+                index = skipApostrophe(index, isPlural);
+            } else if (c == '{') {
+                index = parseArgument(index + 1);
+            } else if (c == '}' && depth > 0) {
+                return index + 1;
+            } else {
+                // Includes `}` of the top-level message, which is literal text
+                index++;
+            }
+        }
+
+        if (depth > 0) throw new IllegalArgumentException("Unterminated sub-message");
+        return index;
+    }
+
+    /// @return Index after the closing brace of the argument.
+    private int parseArgument(int index) {
+        int nameStart = index = skipWhitespace(index);
+        index = skipUntil(index, ",}");
+        String name = pattern.substring(nameStart, index).trim();
+
+        if (name.isEmpty()) throw new IllegalArgumentException("Empty argument name at index " + nameStart);
+        if (index >= pattern.length()) throw new IllegalArgumentException("Unterminated argument " + name);
+        if (pattern.charAt(index) == '}') {
+            add(name, Type.ANY);
+            return index + 1;
+        }
+
+        int typeStart = index + 1;
+        index = skipUntil(typeStart, ",}");
+        String type = pattern.substring(typeStart, index).trim();
+
+        if (index >= pattern.length()) throw new IllegalArgumentException("Unterminated argument " + name);
+        add(name, NUMBER_TYPES.contains(type) ? Type.NUMBER : type.equals("select") ? Type.TEXT : Type.OBJECT);
+        if (pattern.charAt(index) == '}') return index + 1;
+
+        return SUB_MESSAGE_TYPES.contains(type)
+               ? parseSubMessages(index + 1, !type.equals("select"))
+               : skipStyle(index + 1);
+    }
+
+    /// Parses selectors and their sub-messages (e.g., `=0{...} one{...} other{...}`).
+    ///
+    /// @return Index after the closing brace of the argument.
+    private int parseSubMessages(int index, boolean isPlural) {
+        while (true) {
+            index = skipWhitespace(index);
+            if (index >= pattern.length()) throw new IllegalArgumentException("Unterminated sub-messages");
+
+            char c = pattern.charAt(index);
+            if (c == '}') return index + 1;
+            if (c == '{') {
+                index = parseMessage(index + 1, 1, isPlural);
+            } else {
+                // Selector, such as `=0`, `other`, or `offset:1`
+                while (index < pattern.length()
+                        && !Character.isWhitespace(pattern.charAt(index))
+                        && "{}".indexOf(pattern.charAt(index)) < 0) {
+                    index++;
+                }
+            }
+        }
+    }
+
+    /// Skips the style of a simple argument (e.g., `number, ::currency/USD`), which may contain nested braces.
+    ///
+    /// @return Index after the closing brace of the argument.
+    private int skipStyle(int index) {
+        int depth = 0;
+
+        while (index < pattern.length()) {
+            char c = pattern.charAt(index);
+
+            if (c == '\'') {
+                index = skipApostrophe(index, false);
+                continue;
+            }
+            if (c == '{') {
+                depth++;
+            } else if (c == '}' && depth-- == 0) {
+                return index + 1;
+            }
+            index++;
+        }
+        throw new IllegalArgumentException("Unterminated argument style");
+    }
+
+    /// @return Index after the apostrophe, or after the quoted text it starts.
+    private int skipApostrophe(int index, boolean isPlural) {
+        if (index + 1 >= pattern.length()) return index + 1;
+
+        char next = pattern.charAt(index + 1);
+        if (next == '\'') return index + 2;
+        if (next != '{' && next != '}' && next != '|' && !(isPlural && next == '#')) return index + 1;
+
+        // Quoted text until the next single apostrophe, where two apostrophes form a literal one
+        index += 2;
+        while (index < pattern.length()) {
+            if (pattern.charAt(index) == '\'') {
+                if (index + 1 < pattern.length() && pattern.charAt(index + 1) == '\'') {
+                    index += 2;
+                    continue;
+                }
+                return index + 1;
+            }
+            index++;
+        }
+        return index;
+    }
+
+    private int skipWhitespace(int index) {
+        while (index < pattern.length() && Character.isWhitespace(pattern.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+
+    private int skipUntil(int index, String characters) {
+        while (index < pattern.length() && characters.indexOf(pattern.charAt(index)) < 0) {
+            index++;
+        }
+        return index;
+    }
+
+    /// Adds an argument, where an argument used as different types is typed by the most specific type
+    /// accepted by all its uses, such as [Type#NUMBER] if also used without a type.
+    private void add(String name, Type type) {
+        arguments.merge(name, type, (previous, current) -> {
+            if (previous == current || current == Type.ANY) return previous;
+            return previous == Type.ANY ? current : Type.OBJECT;
+        });
+    }
+
+    /// Parameter type of an argument.
+    enum Type {
+        /// Numeric arguments, such as `plural` or `number`, keeping the precision of `long` values.
+        NUMBER("Number"),
+        /// Arguments of the `select` type, selecting by keyword.
+        TEXT("String"),
+        /// Arguments without a type, formatted by the type of their value (e.g., numbers are grouped by locale).
+        ANY("Object"),
+        /// Arguments of other types, such as `date`, or used as conflicting types.
+        OBJECT("Object");
+
+        private final String javaType;
+
+        Type(String javaType) {
+            this.javaType = javaType;
+        }
+
+        /// {@return The Java type of parameters for this argument type}
+        String getJavaType() {
+            return javaType;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+/// # Localize Processor
+/// Optional annotation processor of Localize.
+///
+/// Generates typed accessor classes for types annotated with
+/// [`@LocalizedMessages`](https://javadoc.io/doc/com.devinsterling/localize-base),
+/// where each message of a resource bundle becomes a method taking its arguments in order:
+/// ```java
+/// @LocalizedMessages(bundle = "messages")
+/// interface AppText {}
+/// ...
+/// AppTextMessages text = new AppTextMessages(localize);
+/// text.clickMessage("Snowball", 3);
+/// ```
+module com.devinsterling.localize.processor {
+    requires java.compiler;
+
+    provides javax.annotation.processing.Processor
+        with com.devinsterling.localize.processor.LocalizedMessagesProcessor;
+}
@@ -0,0 +1,195 @@
+package com.devinsterling.localize.processor.test;
+
+import com.devinsterling.localize.Localize;
+import com.devinsterling.localize.processor.LocalizedMessagesProcessor;
+
+import org.junit.jupiter.api.Test;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.io.StringReader;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.PropertyResourceBundle;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocalizedMessagesProcessorTest {
+    private static final String MESSAGES = """
+        MyApp.clickMe = Click!
+        MyApp.clickMessage = {name} clicked this button {click_count, plural, =1{# time} other{# times}}!
+        MyApp.numbered = {1} and {0}
+        MyApp.count = {count} of {total, number} ({count, plural, one{# item} other{# items}})
+        MyApp.quoted = It''s '{literal}' {kind, select, a{A {nested}} other{B}}
+        Other.clickMe = Other
+        """;
+
+    @Test void testGeneratedAccessors() throws Exception {
+        Compilation compilation = compile(MESSAGES, """
+            package sample;
+
+            import com.devinsterling.localize.LocalizedMessages;
+
+            @LocalizedMessages(bundle = "i18n.messages")
+            interface AppText {}
+            """);
+        assertTrue(compilation.isSuccess(), compilation.getErrors());
+
+        Class<?> accessor = compilation.loadClass("sample.AppTextMessages");
+        Localize localize = Localize.of(Locale.ENGLISH);
+        localize.addBundleProvider(locale -> toBundle(MESSAGES));
+        Object messages = accessor.getConstructor(Localize.class).newInstance(localize);
+
+        // Ambiguous keys are named after the whole key
+        assertEquals("Click!", accessor.getMethod("myAppClickMe").invoke(messages));
+        assertEquals("Other", accessor.getMethod("otherClickMe").invoke(messages));
+        assertEquals(
+            "Snowball clicked this button 3 times!",
+            accessor.getMethod("clickMessage", Object.class, Number.class).invoke(messages, "Snowball", 3)
+        );
+        // Arguments are in order of first appearance
+        assertEquals("b and a", accessor.getMethod("numbered", Object.class, Object.class).invoke(messages, "b", "a"));
+        assertEquals("1,234 and a", accessor.getMethod("numbered", Object.class, Object.class).invoke(messages, 1234, "a"));
+        assertNotNull(accessor.getMethod("quoted", String.class, Object.class));
+
+        // Untyped arguments also used as numbers are numbers, while `long` values keep their precision
+        assertEquals(
+            "1,234 of 9,007,199,254,740,993 (1,234 items)",
+            accessor.getMethod("count", Number.class, Number.class).invoke(messages, 1234, 9_007_199_254_740_993L)
+        );
+    }
+
+    @Test void testBackslashesInPatterns() throws Exception {
+        // A backslash followed by `u` must not become a unicode escape in the generated comments
+        String properties = """
+            MyApp.path = C:\\\\users\\\\{name}
+            MyApp.escaped = \\\\u0041 \\\\\\\\uXYZ
+            """;
+        Compilation compilation = compile(properties, """
+            import com.devinsterling.localize.LocalizedMessages;
+
+            @LocalizedMessages(bundle = "i18n.messages")
+            interface AppText {}
+            """);
+        assertTrue(compilation.isSuccess(), compilation.getErrors());
+
+        Class<?> accessor = compilation.loadClass("AppTextMessages");
+        Localize localize = Localize.of(Locale.ENGLISH);
+        localize.addBundleProvider(locale -> toBundle(properties));
+        Object messages = accessor.getConstructor(Localize.class).newInstance(localize);
+
+        assertEquals("C:\\users\\Snowball", accessor.getMethod("path", Object.class).invoke(messages, "Snowball"));
+        assertEquals("\\u0041 \\\\uXYZ", accessor.getMethod("escaped").invoke(messages));
+    }
+
+    @Test void testClassName() throws Exception {
+        Compilation compilation = compile(MESSAGES, """
+            import com.devinsterling.localize.LocalizedMessages;
+
+            @LocalizedMessages(bundle = "i18n.messages", className = "Text")
+            class AppText {}
+            """);
+
+        assertTrue(compilation.isSuccess(), compilation.getErrors());
+        assertNotNull(compilation.loadClass("Text"));
+    }
+
+    @Test void testMissingBundle() throws Exception {
+        Compilation compilation = compile(MESSAGES, """
+            import com.devinsterling.localize.LocalizedMessages;
+
+            @LocalizedMessages(bundle = "missing")
+            interface AppText {}
+            """);
+
+        assertFalse(compilation.isSuccess());
+        assertTrue(compilation.getErrors().contains("Cannot find missing.properties"), compilation.getErrors());
+    }
+
+    @Test void testMalformedPattern() throws Exception {
+        Compilation compilation = compile("MyApp.broken = {name, plural, other{unterminated}", """
+            import com.devinsterling.localize.LocalizedMessages;
+
+            @LocalizedMessages(bundle = "i18n.messages")
+            interface AppText {}
+            """);
+
+        assertFalse(compilation.isSuccess());
+        assertTrue(compilation.getErrors().contains("MyApp.broken"), compilation.getErrors());
+    }
+
+    private static PropertyResourceBundle toBundle(String properties) {
+        try {
+            return new PropertyResourceBundle(new StringReader(properties));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /// Compiles the given source with the processor, where `properties` is the bundle `i18n.messages`.
+    private static Compilation compile(String properties, String source) throws IOException {
+        Path resources = Files.createTempDirectory("localize-resources");
+        Path output = Files.createTempDirectory("localize-output");
+        Files.createDirectories(resources.resolve("i18n"));
+        Files.writeString(resources.resolve("i18n/messages.properties"), properties, StandardCharsets.UTF_8);
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+            String className = source.contains("package sample;") ? "sample/AppText" : "AppText";
+            JavaFileObject file = new SimpleJavaFileObject(
+                URI.create("string:///" + className + ".java"), JavaFileObject.Kind.SOURCE
+            ) {
+                @Override public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                    return source;
+                }
+            };
+
+            JavaCompiler.CompilationTask task = compiler.getTask(
+                null,
+                fileManager,
+                diagnostics,
+                List.of(
+                    "-classpath", System.getProperty("java.class.path"),
+                    "-d", output.toString(),
+                    "-s", output.toString(),
+                    "-Alocalize.resourceDirs=" + resources
+                ),
+                null,
+                List.of(file)
+            );
+            task.setProcessors(List.of(new LocalizedMessagesProcessor()));
+
+            boolean isSuccess = task.call();
+            String errors = diagnostics.getDiagnostics().stream()
+                                       .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+                                       .map(diagnostic -> diagnostic.getMessage(Locale.ENGLISH))
+                                       .collect(Collectors.joining("\n"));
+            return new Compilation(isSuccess, errors, output);
+        }
+    }
+
+    private record Compilation(boolean isSuccess, String getErrors, Path output) {
+        Class<?> loadClass(String name) throws Exception {
+            URLClassLoader loader = new URLClassLoader(
+                new URL[] { output.toUri().toURL() },
+                LocalizedMessagesProcessorTest.class.getClassLoader()
+            );
+            return loader.loadClass(name);
+        }
+    }
+}
@@ -4,6 +4,7 @@ pluginManagement {
     includeBuild("build-logic")
 }
 
-include("base", "javafx", "examples")
+include("base", "javafx", "processor", "examples")
 project(":base").name = "Localize"
 project(":javafx").name = "LocalizeFX"
+project(":processor").name = "LocalizeProcessor"